@@ -0,0 +1,79 @@
+package com.crudpersonas.app.application.service;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.benchmark.BenchmarkContexts;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.Persona;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Rows per second for {@code createAll} against one {@code create} per row, each in its own
+ * transaction as a client looping over {@code POST /api/personas} would do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonaBulkInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private ConfigurableApplicationContext context;
+    private PersonaUseCase personaUseCase;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        personaUseCase = context.getBean(PersonaUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<BatchItemResult> createAll() {
+        return personaUseCase.createAll(nextBatch());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void createLoop(Blackhole blackhole) {
+        for (Persona persona : nextBatch()) {
+            blackhole.consume(personaUseCase.create(persona));
+        }
+    }
+
+    private List<Persona> nextBatch() {
+        return IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> {
+                    long n = sequence.incrementAndGet();
+                    return new Persona(null, "Persona " + n, "bulk" + n + "@example.com");
+                })
+                .toList();
+    }
+}
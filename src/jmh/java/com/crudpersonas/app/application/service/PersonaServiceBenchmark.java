@@ -0,0 +1,95 @@
+package com.crudpersonas.app.application.service;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.benchmark.BenchmarkContexts;
+import com.crudpersonas.app.domain.model.Persona;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Read and single-row write paths of {@link PersonaService} against an embedded H2 database seeded
+ * with {@code rowCount} personas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonaServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private PersonaUseCase personaUseCase;
+    private long firstId;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        personaUseCase = context.getBean(PersonaUseCase.class);
+        List<Persona> seed = IntStream.range(0, rowCount)
+                .mapToObj(i -> new Persona(null, "Persona " + i, "seed" + i + "@example.com"))
+                .toList();
+        firstId = personaUseCase.createAll(seed).get(0).getPersona().getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Persona getById() {
+        return personaUseCase.getById(firstId + ThreadLocalRandom.current().nextInt(rowCount));
+    }
+
+    @Benchmark
+    public List<Persona> listAll() {
+        return personaUseCase.listAll();
+    }
+
+    @Benchmark
+    public Page<Persona> listFirstPage() {
+        return personaUseCase.listAll(PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public Page<Persona> listLastPage() {
+        return personaUseCase.listAll(PageRequest.of(rowCount / 20 - 1, 20));
+    }
+
+    @Benchmark
+    public Slice<Persona> listLastPageByCursor() {
+        return personaUseCase.listAfter(firstId + rowCount - 21, 20);
+    }
+
+    @Benchmark
+    public Persona create() {
+        long n = sequence.incrementAndGet();
+        return personaUseCase.create(new Persona(null, "Nueva " + n, "nueva" + n + "@example.com"));
+    }
+}
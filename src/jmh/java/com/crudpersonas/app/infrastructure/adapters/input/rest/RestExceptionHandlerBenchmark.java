@@ -0,0 +1,64 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest;
+
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.PersonaRequest;
+import com.crudpersonas.app.utils.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error paths include building the exception, since filling its stack trace is part of the real cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestExceptionHandlerBenchmark {
+
+    private RestExceptionHandler handler;
+    private MethodParameter createParameter;
+    private PersonaRequest invalidRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new RestExceptionHandler();
+        createParameter = new MethodParameter(PersonaController.class.getMethod("create", PersonaRequest.class), 0);
+        invalidRequest = new PersonaRequest();
+        invalidRequest.setNombre("Juan");
+        invalidRequest.setEmail("no-es-email");
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse> duplicateEmail() {
+        return handler.handleDuplicateEmail(new DuplicateEmailException("juan@example.com"));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse> personaNotFound() {
+        return handler.handlePersonaNotFound(new PersonaNotFoundException(99L));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse> validation() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(invalidRequest, "personaRequest");
+        bindingResult.rejectValue("email", "Email", "email invalido");
+        return handler.handleValidation(new MethodArgumentNotValidException(createParameter, bindingResult));
+    }
+}
@@ -0,0 +1,49 @@
+package com.crudpersonas.app.infrastructure.adapters.output.persistence;
+
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.infrastructure.adapters.output.persistence.entity.PersonaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonaMappingBenchmark {
+
+    private PersonaPersistenceAdapter adapter;
+    private PersonaEntity entity;
+    private Persona persona;
+
+    @Setup
+    public void setUp() {
+        adapter = new PersonaPersistenceAdapter(null, null, null, null, null);
+        entity = new PersonaEntity();
+        entity.setId(42L);
+        entity.setNombre("Juan Perez");
+        entity.setEmail("juan.perez@example.com");
+        persona = new Persona(42L, "Juan Perez", "juan.perez@example.com");
+    }
+
+    @Benchmark
+    public Persona toDomain() {
+        return adapter.toDomain(entity);
+    }
+
+    @Benchmark
+    public PersonaEntity toEntity() {
+        return adapter.toEntity(persona);
+    }
+}
@@ -0,0 +1,79 @@
+package com.crudpersonas.app.infrastructure.adapters.output.persistence;
+
+import com.crudpersonas.app.benchmark.BenchmarkContexts;
+import com.crudpersonas.app.domain.model.Persona;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Read paths of {@link PersonaPersistenceAdapter} without the cache in front. Run with
+ * {@code -Djmh.args="PersonaReadBenchmark -prof gc"} to see bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonaReadBenchmark {
+
+    @Param({"1000"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private PersonaPersistenceAdapter adapter;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        adapter = context.getBean(PersonaPersistenceAdapter.class);
+        List<Persona> seed = IntStream.range(0, rowCount)
+                .mapToObj(i -> new Persona(null, "Persona " + i, "seed" + i + "@example.com"))
+                .toList();
+        firstId = adapter.saveAll(seed).get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Persona> findAll() {
+        return adapter.findAll();
+    }
+
+    @Benchmark
+    public Page<Persona> listPage() {
+        return adapter.listAll(PageRequest.of(1, 100));
+    }
+
+    @Benchmark
+    public List<Persona> findAfter() {
+        return adapter.findAfter(firstId, 100);
+    }
+
+    @Benchmark
+    public Persona findById() {
+        return adapter.findById(firstId).orElseThrow();
+    }
+}
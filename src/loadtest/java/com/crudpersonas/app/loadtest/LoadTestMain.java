@@ -0,0 +1,285 @@
+package com.crudpersonas.app.loadtest;
+
+import com.crudpersonas.app.UserServiceApplication;
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.Persona;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Open-loop load generator: boots the application on in-memory H2 (PostgreSQL mode), seeds personas
+ * and fires a weighted mix of REST calls at a fixed arrival rate. Latency is measured from each
+ * call's scheduled start, so a stalled server shows up in the percentiles instead of silently slowing
+ * the generator down (no coordinated omission). Calls not sent because {@code maxInFlight} was reached
+ * are counted as dropped errors of their endpoint, and deletes draw from rows reserved at seed time so
+ * the mix holds even before the run has created anything.
+ *
+ * <pre>mvn -Ploadtest test-compile exec:exec -Dloadtest.args="rate=500 duration=60s seed=50000"</pre>
+ */
+public final class LoadTestMain {
+
+    private static final int SEED_CHUNK = 5_000;
+    private static final int PAGE_SIZE = 20;
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final URI base;
+    private final long[] seededIds;
+    private final Operation[] wheel;
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong uniqueSuffix = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private LoadTestMain(LoadTestOptions options, URI base, long[] seededIds, long[] deletableIds) {
+        this.options = options;
+        this.base = base;
+        this.seededIds = seededIds;
+        for (long id : deletableIds) {
+            createdIds.add(id);
+        }
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Operation> slots = new ArrayList<>();
+        options.mix().forEach((operation, weight) -> IntStream.range(0, weight).forEach(i -> slots.add(operation)));
+        this.wheel = slots.toArray(Operation[]::new);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ConfigurableApplicationContext context = start(options)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            PersonaUseCase personaUseCase = context.getBean(PersonaUseCase.class);
+            long[] seededIds = seed(personaUseCase, "persona", options.seed());
+            long[] deletableIds = seed(personaUseCase, "reserva", expectedDeletes(options));
+            LoadTestMain harness = new LoadTestMain(options, URI.create("http://localhost:" + port), seededIds,
+                    deletableIds);
+            harness.run();
+            harness.report(System.out);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestOptions options) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(options.springArgs()));
+        return new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new));
+    }
+
+    // Every delete the mix can schedule, with headroom, so none waits on a create that has not finished
+    private static int expectedDeletes(LoadTestOptions options) {
+        int totalWeight = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+        int deleteWeight = options.mix().getOrDefault(Operation.DELETE, 0);
+        double seconds = (options.warmup().toNanos() + options.duration().toNanos()) / 1e9;
+        return (int) Math.ceil(options.rate() * seconds * deleteWeight / totalWeight * 1.1);
+    }
+
+    private static long[] seed(PersonaUseCase personaUseCase, String prefix, int count) {
+        long[] ids = new long[count];
+        for (int from = 0; from < count; from += SEED_CHUNK) {
+            int to = Math.min(from + SEED_CHUNK, count);
+            List<Persona> chunk = IntStream.range(from, to)
+                    .mapToObj(i -> new Persona(null, "Persona " + i, prefix + i + "@load.test"))
+                    .toList();
+            List<BatchItemResult> results = personaUseCase.createAll(chunk);
+            for (BatchItemResult result : results) {
+                ids[from + result.getIndex()] = result.getPersona().getId();
+            }
+        }
+        return ids;
+    }
+
+    private void run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * intervalNanos;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = wheel[ThreadLocalRandom.current().nextInt(wheel.length)];
+            fire(operation, scheduled, scheduled >= measureFrom);
+        }
+        long drainUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void fire(Operation operation, long scheduled, boolean measured) {
+        if (inFlight.get() >= options.maxInFlight()) {
+            if (measured) {
+                stats.get(operation).drop();
+            }
+            return;
+        }
+        HttpRequest request = request(operation);
+        if (request == null) {
+            if (measured) {
+                stats.get(operation).skip();
+            }
+            return;
+        }
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            long latencyNanos = System.nanoTime() - scheduled;
+            boolean ok = error == null && response.statusCode() < 400;
+            if (ok && operation == Operation.CREATE) {
+                Matcher id = ID.matcher(response.body());
+                if (id.find()) {
+                    createdIds.add(Long.valueOf(id.group(1)));
+                }
+            }
+            if (measured) {
+                stats.get(operation).record(latencyNanos, ok);
+            }
+            inFlight.decrementAndGet();
+        });
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case LIST -> get("/api/personas");
+            case PAGE -> get("/api/personas/page?size=" + PAGE_SIZE + "&page=" + random.nextInt(Math.max(1, seededIds.length / PAGE_SIZE)));
+            case CREATE -> {
+                long n = uniqueSuffix.incrementAndGet();
+                yield json("/api/personas", "POST", "Carga " + n, "carga" + n + "@load.test");
+            }
+            case UPDATE -> {
+                int index = random.nextInt(seededIds.length);
+                yield json("/api/personas/" + seededIds[index], "PUT",
+                        "Persona " + index + " v" + uniqueSuffix.incrementAndGet(), "persona" + index + "@load.test");
+            }
+            case DELETE -> {
+                Long id = createdIds.poll();
+                yield id == null ? null : HttpRequest.newBuilder(base.resolve("/api/personas/" + id)).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).header("Accept", "application/json").GET().build();
+    }
+
+    private HttpRequest json(String path, String method, String nombre, String email) {
+        String body = "{\"nombre\":\"" + nombre + "\",\"email\":\"" + email + "\"}";
+        return HttpRequest.newBuilder(base.resolve(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void report(PrintStream out) {
+        double seconds = options.duration().toNanos() / 1e9;
+        out.printf("%nOpen-loop run: target %d req/s for %s after %s warmup, %d seeded rows, %d deletes skipped%n",
+                options.rate(), options.duration(), options.warmup(), seededIds.length,
+                stats.get(Operation.DELETE).skipped.sum());
+        out.printf("count is every scheduled call; errors include calls dropped at maxInFlight=%d%n%n",
+                options.maxInFlight());
+        out.printf("%-8s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Stats total = new Stats();
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats endpoint = entry.getValue();
+            if (endpoint.scheduled() == 0) {
+                continue;
+            }
+            total.add(endpoint);
+            print(out, entry.getKey().name().toLowerCase(), endpoint, seconds);
+        }
+        print(out, "all", total, seconds);
+    }
+
+    private static void print(PrintStream out, String name, Stats stats, double seconds) {
+        Histogram histogram = stats.histogram;
+        out.printf("%-8s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, stats.scheduled(), stats.errors.sum(), stats.dropped.sum(), histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Stats {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        void record(long latencyNanos, boolean ok) {
+            histogram.recordValue(Math.min(HIGHEST_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        void drop() {
+            dropped.increment();
+            errors.increment();
+        }
+
+        void skip() {
+            skipped.increment();
+        }
+
+        long scheduled() {
+            return histogram.getTotalCount() + dropped.sum() + skipped.sum();
+        }
+
+        void add(Stats other) {
+            histogram.add(other.histogram);
+            errors.add(other.errors.sum());
+            dropped.add(other.dropped.sum());
+            skipped.add(other.skipped.sum());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.crudpersonas.app.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Harness settings given as {@code key=value} arguments; anything starting with {@code --} is handed
+ * to Spring Boot unchanged, e.g. {@code --spring.threads.virtual.enabled=true}.
+ */
+record LoadTestOptions(int seed, int rate, Duration duration, Duration warmup, int maxInFlight,
+                       Map<Operation, Integer> mix, String[] springArgs) {
+
+    private static final String DEFAULT_MIX = "list:1,page:39,create:25,update:25,delete:10";
+
+    static LoadTestOptions parse(String[] args) {
+        int seed = 10_000;
+        int rate = 200;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(5);
+        int maxInFlight = 2_000;
+        String mix = DEFAULT_MIX;
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                springArgs.add(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            String value = arg.substring(eq + 1);
+            switch (arg.substring(0, eq)) {
+                case "seed" -> seed = Integer.parseInt(value);
+                case "rate" -> rate = Integer.parseInt(value);
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "maxInFlight" -> maxInFlight = Integer.parseInt(value);
+                case "mix" -> mix = value;
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        return new LoadTestOptions(seed, rate, duration, warmup, maxInFlight, parseMix(mix),
+                springArgs.toArray(String[]::new));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,9 @@
+package com.crudpersonas.app.loadtest;
+
+/**
+ * REST calls the harness can mix. Updates and page reads only touch seeded rows and deletes only rows
+ * reserved at seed time or created during the run, so a mix never produces 404s by itself.
+ */
+enum Operation {
+    LIST, PAGE, CREATE, UPDATE, DELETE
+}
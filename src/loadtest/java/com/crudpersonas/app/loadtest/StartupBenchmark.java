@@ -0,0 +1,152 @@
+package com.crudpersonas.app.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to first request for each {@link StartupMode}: launches the packaged application in a fresh JVM
+ * and polls until a page read succeeds, so JVM start, context refresh and whatever the first request
+ * still initializes are all counted. Modes are interleaved run by run so drift on the machine hits
+ * them evenly. Build the artifact first; the database comes from DB_URL, DB_USERNAME and DB_PASSWORD.
+ *
+ * <pre>
+ * mvn -Pfast-startup package -DskipTests
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.main=com.crudpersonas.app.loadtest.StartupBenchmark -Dloadtest.args="runs=5"
+ * </pre>
+ */
+public final class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final StartupBenchmarkOptions options;
+    private final Path jar;
+    private final Path logs;
+    private final String java;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private StartupBenchmark(StartupBenchmarkOptions options, Path jar) {
+        this.options = options;
+        this.jar = jar;
+        this.logs = options.dir().resolve("startup-logs");
+        this.java = ProcessHandle.current().info().command().orElse("java");
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmarkOptions options = StartupBenchmarkOptions.parse(args);
+        StartupBenchmark benchmark = new StartupBenchmark(options, findJar(options.dir()));
+        benchmark.report(benchmark.run(), System.out);
+    }
+
+    private static Path findJar(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalStateException(dir + " not found, build it with mvn -Pfast-startup package");
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> jars = files.filter(file -> file.getFileName().toString().endsWith(".jar")).toList();
+            if (jars.size() != 1) {
+                throw new IllegalStateException("Expected one extracted application jar in " + dir + " but found " + jars);
+            }
+            return jars.get(0);
+        }
+    }
+
+    private Map<StartupMode, long[]> run() throws IOException, InterruptedException {
+        Files.createDirectories(logs);
+        Map<StartupMode, long[]> millis = new EnumMap<>(StartupMode.class);
+        options.modes().forEach(mode -> millis.put(mode, new long[options.runs()]));
+        for (int run = 0; run < options.runs(); run++) {
+            for (StartupMode mode : options.modes()) {
+                long elapsed = timeToFirstRequest(mode, run);
+                millis.get(mode)[run] = elapsed;
+                System.out.printf("%-13s run %d: %d ms%n", mode.label(), run + 1, elapsed);
+            }
+        }
+        return millis;
+    }
+
+    private long timeToFirstRequest(StartupMode mode, int run) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(mode.jvmArgs());
+        command.addAll(List.of("-jar", jar.getFileName().toString(), "--server.port=" + port));
+        command.addAll(Arrays.asList(options.appArgs()));
+        Path log = logs.resolve(mode.label() + "-" + (run + 1) + ".log").toAbsolutePath();
+        HttpRequest firstRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/personas/page?size=1"))
+                .timeout(options.timeout())
+                .GET()
+                .build();
+
+        // The archive path in AOT_CDS is relative, and must match the directory of the training run
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(options.dir().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + options.timeout().toNanos();
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.label() + " exited with " + process.exitValue() + ", see " + log);
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException(mode.label() + " not serving after " + options.timeout() + ", see " + log);
+                }
+                try {
+                    int status = client.send(firstRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                    throw new IllegalStateException(mode.label() + " answered " + status + ", see " + log);
+                } catch (ConnectException notListeningYet) {
+                    Thread.sleep(POLL_INTERVAL.toMillis());
+                }
+            }
+        } finally {
+            stop(process);
+        }
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void report(Map<StartupMode, long[]> millis, PrintStream out) {
+        out.printf("%nTime to first request over %d runs (ms), artifact %s%n%n", options.runs(), jar);
+        out.printf("%-13s %8s %8s %8s%n", "mode", "min", "median", "max");
+        millis.forEach((mode, samples) -> {
+            long[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            out.printf("%-13s %8d %8d %8d%n", mode.label(), sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1]);
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.crudpersonas.app.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark settings given as {@code key=value} arguments; anything starting with {@code --} is
+ * passed to every launched application, e.g. {@code --spring.datasource.hikari.maximum-pool-size=4}.
+ */
+record StartupBenchmarkOptions(int runs, List<StartupMode> modes, Path dir, Duration timeout, String[] appArgs) {
+
+    static StartupBenchmarkOptions parse(String[] args) {
+        int runs = 5;
+        List<StartupMode> modes = List.of(StartupMode.values());
+        Path dir = Path.of("target", "fast-startup");
+        Duration timeout = Duration.ofMinutes(2);
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                appArgs.add(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            String value = arg.substring(eq + 1);
+            switch (arg.substring(0, eq)) {
+                case "runs" -> runs = Integer.parseInt(value);
+                case "modes" -> modes = Arrays.stream(value.split(",")).map(StartupMode::fromLabel).toList();
+                case "dir" -> dir = Path.of(value);
+                case "timeout" -> timeout = DurationStyle.detectAndParse(value);
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        return new StartupBenchmarkOptions(runs, modes, dir, timeout, appArgs.toArray(String[]::new));
+    }
+}
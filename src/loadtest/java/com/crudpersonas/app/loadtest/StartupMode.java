@@ -0,0 +1,35 @@
+package com.crudpersonas.app.loadtest;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ways to launch the artifact built by {@code mvn -Pfast-startup package}. The AOT code was generated
+ * for the fast-startup profile, so every mode past the default keeps that profile active.
+ */
+enum StartupMode {
+
+    DEFAULT(List.of()),
+    FAST_STARTUP(List.of("-Dspring.profiles.active=fast-startup")),
+    AOT(List.of("-Dspring.profiles.active=fast-startup", "-Dspring.aot.enabled=true")),
+    AOT_CDS(List.of("-Dspring.profiles.active=fast-startup", "-Dspring.aot.enabled=true",
+            "-XX:SharedArchiveFile=application.jsa"));
+
+    private final List<String> jvmArgs;
+
+    StartupMode(List<String> jvmArgs) {
+        this.jvmArgs = jvmArgs;
+    }
+
+    List<String> jvmArgs() {
+        return jvmArgs;
+    }
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    static StartupMode fromLabel(String label) {
+        return valueOf(label.strip().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
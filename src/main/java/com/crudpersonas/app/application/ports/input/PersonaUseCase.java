@@ -1,23 +1,55 @@
 package com.crudpersonas.app.application.ports.input;
 
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.BulkDeleteResult;
 import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface PersonaUseCase {
 
     List<Persona> listAll();
 
+    List<Persona> listAll(Set<PersonaField> fields);
+
+    void streamAll(Consumer<Persona> consumer);
+
     Page<Persona> listAll(Pageable pageable);
 
+    Page<Persona> listAll(Pageable pageable, Set<PersonaField> fields);
+
+    Slice<Persona> listSlice(Pageable pageable);
+
+    Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields);
+
+    Page<Persona> listAllApproximate(Pageable pageable);
+
+    Page<Persona> listAllApproximate(Pageable pageable, Set<PersonaField> fields);
+
+    Slice<Persona> listAfter(Long afterId, int size);
+
+    Slice<Persona> search(String query, Pageable pageable);
+
+    Persona getById(Long id);
+
     Persona create(Persona persona);
 
+    List<BatchItemResult> createAll(List<Persona> personas);
+
     Persona update(Long id, Persona persona);
 
     void delete(Long id);
+
+    BulkDeleteResult deleteAll(List<Long> ids);
+
+    String tableVersion();
 }
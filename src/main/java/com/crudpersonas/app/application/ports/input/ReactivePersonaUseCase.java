@@ -0,0 +1,21 @@
+package com.crudpersonas.app.application.ports.input;
+
+import com.crudpersonas.app.domain.model.Persona;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePersonaUseCase {
+
+    Flux<Persona> listAll();
+
+    Mono<Slice<Persona>> listAfter(Long afterId, int size);
+
+    Mono<Persona> getById(Long id);
+
+    Mono<Persona> create(Persona persona);
+
+    Mono<Persona> update(Long id, Persona persona);
+
+    Mono<Void> delete(Long id);
+}
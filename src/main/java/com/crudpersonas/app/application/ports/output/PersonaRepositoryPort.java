@@ -1,25 +1,52 @@
 package com.crudpersonas.app.application.ports.output;
 
 import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface PersonaRepositoryPort {
 
     List<Persona> findAll();
 
+    List<Persona> findAll(Set<PersonaField> fields);
+
+    void streamAll(Consumer<Persona> consumer);
+
     Page<Persona> listAll(Pageable pageable);
 
+    Slice<Persona> listSlice(Pageable pageable);
+
+    Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields);
+
+    long count();
+
+    long approximateCount();
+
+    List<Persona> findAfter(Long afterId, int limit);
+
+    List<Persona> search(String query, long offset, int limit);
+
     Optional<Persona> findById(Long id);
 
     Persona save(Persona persona);
 
-    boolean existsByEmail(String email);
+    List<Persona> saveAll(List<Persona> personas);
+
+    boolean update(Persona persona);
+
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    boolean deleteById(Long id);
 
-    boolean existsByEmailExcludingId(String email, Long id);
+    Set<Long> deleteAllById(Collection<Long> ids);
 
-    void deleteById(Long id);
+    String tableVersion();
 }
@@ -0,0 +1,24 @@
+package com.crudpersonas.app.application.ports.output;
+
+import com.crudpersonas.app.domain.model.Persona;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePersonaRepositoryPort {
+
+    Flux<Persona> findAll();
+
+    Flux<Persona> findAfter(Long afterId, int limit);
+
+    Mono<Persona> findById(Long id);
+
+    Mono<Persona> insert(Persona persona);
+
+    /**
+     * Emits the version the row now has, or completes empty when no row matched: the id is missing or,
+     * when the persona carries a version, the row has moved past it.
+     */
+    Mono<Long> update(Persona persona);
+
+    Mono<Boolean> deleteById(Long id);
+}
@@ -4,23 +4,43 @@ import com.crudpersonas.app.application.ports.input.PersonaUseCase;
 import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
 import com.crudpersonas.app.domain.exception.DuplicateEmailException;
 import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.domain.exception.VersionConflictException;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.BulkDeleteResult;
 import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
+@Profile("!reactive")
 @Transactional
 public class PersonaService implements PersonaUseCase {
 
     private final PersonaRepositoryPort personaRepositoryPort;
+    private final TransactionTemplate transactionTemplate;
 
-    public PersonaService(PersonaRepositoryPort personaRepositoryPort) {
+    public PersonaService(PersonaRepositoryPort personaRepositoryPort, PlatformTransactionManager transactionManager) {
         this.personaRepositoryPort = personaRepositoryPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -29,6 +49,19 @@ public class PersonaService implements PersonaUseCase {
         return personaRepositoryPort.findAll();
     }
 
+    // Full projections stay on the default queries; narrower ones read only the selected columns
+    @Override
+    @Transactional(readOnly = true)
+    public List<Persona> listAll(Set<PersonaField> fields) {
+        return fields.containsAll(PersonaField.ALL) ? listAll() : personaRepositoryPort.findAll(fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Persona> consumer) {
+        personaRepositoryPort.streamAll(consumer);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<Persona> listAll(Pageable pageable) {
@@ -36,32 +69,157 @@ public class PersonaService implements PersonaUseCase {
     }
 
     @Override
-    public Persona create(Persona persona) {
-        if (personaRepositoryPort.existsByEmail(persona.getEmail())) {
-            throw new DuplicateEmailException(persona.getEmail());
+    @Transactional(readOnly = true)
+    public Page<Persona> listAll(Pageable pageable, Set<PersonaField> fields) {
+        if (fields.containsAll(PersonaField.ALL)) {
+            return listAll(pageable);
         }
+        Slice<Persona> slice = personaRepositoryPort.listSlice(pageable, fields);
+        // Like the default page query, count(*) is skipped when the page itself reveals the total
+        return PageableExecutionUtils.getPage(slice.getContent(), pageable, personaRepositoryPort::count);
+    }
 
-        return personaRepositoryPort.save(persona);
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Persona> listSlice(Pageable pageable) {
+        return personaRepositoryPort.listSlice(pageable);
     }
 
     @Override
-    public Persona update(Long id, Persona persona) {
-        Persona current = personaRepositoryPort.findById(id)
+    @Transactional(readOnly = true)
+    public Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields) {
+        return fields.containsAll(PersonaField.ALL)
+                ? listSlice(pageable)
+                : personaRepositoryPort.listSlice(pageable, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Persona> listAllApproximate(Pageable pageable) {
+        return withApproximateTotal(personaRepositoryPort.listSlice(pageable), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Persona> listAllApproximate(Pageable pageable, Set<PersonaField> fields) {
+        return withApproximateTotal(listSlice(pageable, fields), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Persona> listAfter(Long afterId, int size) {
+        List<Persona> rows = personaRepositoryPort.findAfter(afterId, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<Persona> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Persona> search(String query, Pageable pageable) {
+        String term = query == null ? "" : query.strip();
+        if (term.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        List<Persona> rows = personaRepositoryPort.search(term, pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Persona> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Persona getById(Long id) {
+        return personaRepositoryPort.findById(id)
                 .orElseThrow(() -> new PersonaNotFoundException(id));
+    }
+
+    @Override
+    public Persona create(Persona persona) {
+        // The unique constraint on email rejects duplicates; save maps that to DuplicateEmailException
+        return personaRepositoryPort.save(persona);
+    }
+
+    // A rejected insert aborts its transaction, so the retry that reports the conflicts per item needs a new one
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BatchItemResult> createAll(List<Persona> personas) {
+        try {
+            return transactionTemplate.execute(status -> insertNew(personas, Set.of()));
+        } catch (DuplicateEmailException ex) {
+            // The email pre-check may miss rows it never saw; the failed insert named them
+            return transactionTemplate.execute(status -> insertNew(personas, ex.getEmails()));
+        }
+    }
+
+    private List<BatchItemResult> insertNew(List<Persona> personas, Set<String> knownTaken) {
+        Set<String> taken = new HashSet<>(personaRepositoryPort.findExistingEmails(
+                personas.stream().map(Persona::getEmail).toList()));
+        taken.addAll(knownTaken);
 
-        if (personaRepositoryPort.existsByEmailExcludingId(persona.getEmail(), id)) {
-            throw new DuplicateEmailException(persona.getEmail());
+        BatchItemResult[] results = new BatchItemResult[personas.size()];
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<Persona> pending = new ArrayList<>();
+        for (int i = 0; i < personas.size(); i++) {
+            Persona persona = personas.get(i);
+            if (!taken.add(persona.getEmail())) {
+                results[i] = BatchItemResult.duplicate(i, persona.getEmail());
+            } else {
+                pendingIndexes.add(i);
+                pending.add(persona);
+            }
         }
 
-        Persona toUpdate = current.withNombreAndEmail(persona.getNombre(), persona.getEmail());
-        return personaRepositoryPort.save(toUpdate);
+        List<Persona> saved = personaRepositoryPort.saveAll(pending);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = pendingIndexes.get(i);
+            results[index] = BatchItemResult.created(index, saved.get(i));
+        }
+        return List.of(results);
+    }
+
+    @Override
+    public Persona update(Long id, Persona persona) {
+        Long expectedVersion = persona.getVersion();
+        Persona toUpdate = new Persona(id, persona.getNombre(), persona.getEmail(), expectedVersion);
+        if (!personaRepositoryPort.update(toUpdate)) {
+            // Only the failure path pays for telling a stale version apart from a missing row
+            if (expectedVersion != null && personaRepositoryPort.findById(id).isPresent()) {
+                throw new VersionConflictException(id);
+            }
+            throw new PersonaNotFoundException(id);
+        }
+        if (expectedVersion == null) {
+            // The row stays locked by this update until commit, so the reload sees exactly the version it set
+            return personaRepositoryPort.findById(id).orElseThrow(() -> new PersonaNotFoundException(id));
+        }
+        return new Persona(id, persona.getNombre(), persona.getEmail(), expectedVersion + 1);
     }
 
     @Override
     public void delete(Long id) {
-        Persona current = personaRepositoryPort.findById(id)
-                .orElseThrow(() -> new PersonaNotFoundException(id));
+        if (!personaRepositoryPort.deleteById(id)) {
+            throw new PersonaNotFoundException(id);
+        }
+    }
+
+    @Override
+    public BulkDeleteResult deleteAll(List<Long> ids) {
+        Set<Long> deleted = personaRepositoryPort.deleteAllById(ids);
+        return new BulkDeleteResult(deleted.size(),
+                ids.stream().distinct().filter(id -> !deleted.contains(id)).toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String tableVersion() {
+        return personaRepositoryPort.tableVersion();
+    }
 
-        personaRepositoryPort.deleteById(current.getId());
+    private Page<Persona> withApproximateTotal(Slice<Persona> slice, Pageable pageable) {
+        // A stale estimate must not contradict what this page already shows
+        long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        long total = Math.max(personaRepositoryPort.approximateCount(), seen);
+        return new PageImpl<>(slice.getContent(), pageable, total);
     }
 }
@@ -0,0 +1,78 @@
+package com.crudpersonas.app.application.service;
+
+import com.crudpersonas.app.application.ports.input.ReactivePersonaUseCase;
+import com.crudpersonas.app.application.ports.output.ReactivePersonaRepositoryPort;
+import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.domain.exception.VersionConflictException;
+import com.crudpersonas.app.domain.model.Persona;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Service
+@Profile("reactive")
+public class ReactivePersonaService implements ReactivePersonaUseCase {
+
+    private final ReactivePersonaRepositoryPort personaRepositoryPort;
+
+    public ReactivePersonaService(ReactivePersonaRepositoryPort personaRepositoryPort) {
+        this.personaRepositoryPort = personaRepositoryPort;
+    }
+
+    @Override
+    public Flux<Persona> listAll() {
+        return personaRepositoryPort.findAll();
+    }
+
+    @Override
+    public Mono<Slice<Persona>> listAfter(Long afterId, int size) {
+        return personaRepositoryPort.findAfter(afterId, size + 1).collectList().map(rows -> {
+            boolean hasNext = rows.size() > size;
+            List<Persona> content = hasNext ? rows.subList(0, size) : rows;
+            return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+        });
+    }
+
+    @Override
+    public Mono<Persona> getById(Long id) {
+        return personaRepositoryPort.findById(id)
+                .switchIfEmpty(Mono.error(() -> new PersonaNotFoundException(id)));
+    }
+
+    @Override
+    public Mono<Persona> create(Persona persona) {
+        return personaRepositoryPort.insert(persona);
+    }
+
+    @Override
+    public Mono<Persona> update(Long id, Persona persona) {
+        Long expectedVersion = persona.getVersion();
+        Persona toUpdate = new Persona(id, persona.getNombre(), persona.getEmail(), expectedVersion);
+        return personaRepositoryPort.update(toUpdate)
+                .map(version -> new Persona(id, persona.getNombre(), persona.getEmail(), version))
+                .switchIfEmpty(Mono.defer(() -> notUpdated(id, expectedVersion)));
+    }
+
+    // Only the failure path pays for telling a stale version apart from a missing row
+    private Mono<Persona> notUpdated(Long id, Long expectedVersion) {
+        Mono<Persona> missing = Mono.error(() -> new PersonaNotFoundException(id));
+        if (expectedVersion == null) {
+            return missing;
+        }
+        return personaRepositoryPort.findById(id)
+                .flatMap(found -> Mono.<Persona>error(new VersionConflictException(id)))
+                .switchIfEmpty(missing);
+    }
+
+    @Override
+    public Mono<Void> delete(Long id) {
+        return personaRepositoryPort.deleteById(id)
+                .flatMap(deleted -> deleted ? Mono.<Void>empty() : Mono.error(new PersonaNotFoundException(id)));
+    }
+}
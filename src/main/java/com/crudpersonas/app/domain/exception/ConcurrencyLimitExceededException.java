@@ -0,0 +1,8 @@
+package com.crudpersonas.app.domain.exception;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException() {
+        super("Servicio saturado, intente nuevamente");
+    }
+}
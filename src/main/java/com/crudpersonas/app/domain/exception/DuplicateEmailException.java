@@ -1,8 +1,22 @@
 package com.crudpersonas.app.domain.exception;
 
+import java.util.Collection;
+import java.util.Set;
+
 public class DuplicateEmailException extends RuntimeException {
 
+    private final Set<String> emails;
+
     public DuplicateEmailException(String email) {
-        super("El email ya esta registrado: " + email);
+        this(Set.of(email));
+    }
+
+    public DuplicateEmailException(Collection<String> emails) {
+        super("El email ya esta registrado: " + String.join(", ", emails));
+        this.emails = Set.copyOf(emails);
+    }
+
+    public Set<String> getEmails() {
+        return emails;
     }
 }
@@ -0,0 +1,8 @@
+package com.crudpersonas.app.domain.exception;
+
+public class InvalidCountModeException extends RuntimeException {
+
+    public InvalidCountModeException(String count) {
+        super("Modo de conteo invalido: " + count + ", use exact, approximate o none");
+    }
+}
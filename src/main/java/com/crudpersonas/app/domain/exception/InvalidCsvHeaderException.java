@@ -0,0 +1,8 @@
+package com.crudpersonas.app.domain.exception;
+
+public class InvalidCsvHeaderException extends RuntimeException {
+
+    public InvalidCsvHeaderException() {
+        super("El CSV debe tener una cabecera con las columnas nombre y email");
+    }
+}
@@ -0,0 +1,8 @@
+package com.crudpersonas.app.domain.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Cursor invalido: " + cursor);
+    }
+}
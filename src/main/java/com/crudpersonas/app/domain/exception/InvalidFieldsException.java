@@ -0,0 +1,8 @@
+package com.crudpersonas.app.domain.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+
+    public InvalidFieldsException(String fields) {
+        super("Campos invalidos: " + fields + ", use id, nombre, email o version");
+    }
+}
@@ -0,0 +1,8 @@
+package com.crudpersonas.app.domain.exception;
+
+public class VersionConflictException extends RuntimeException {
+
+    public VersionConflictException(Long id) {
+        super("La persona con id " + id + " fue modificada por otra solicitud");
+    }
+}
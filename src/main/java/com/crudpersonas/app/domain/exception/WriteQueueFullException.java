@@ -0,0 +1,8 @@
+package com.crudpersonas.app.domain.exception;
+
+public class WriteQueueFullException extends RuntimeException {
+
+    public WriteQueueFullException() {
+        super("Cola de escritura llena, intente nuevamente");
+    }
+}
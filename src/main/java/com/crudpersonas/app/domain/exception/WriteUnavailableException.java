@@ -0,0 +1,8 @@
+package com.crudpersonas.app.domain.exception;
+
+public class WriteUnavailableException extends RuntimeException {
+
+    public WriteUnavailableException() {
+        super("Escritura no disponible, intente nuevamente");
+    }
+}
@@ -0,0 +1,31 @@
+package com.crudpersonas.app.domain.model;
+
+public class BatchItemResult {
+
+    public enum Status { CREATED, DUPLICATE }
+
+    private final int index;
+    private final Status status;
+    private final Persona persona;
+    private final String message;
+
+    private BatchItemResult(int index, Status status, Persona persona, String message) {
+        this.index = index;
+        this.status = status;
+        this.persona = persona;
+        this.message = message;
+    }
+
+    public static BatchItemResult created(int index, Persona persona) {
+        return new BatchItemResult(index, Status.CREATED, persona, null);
+    }
+
+    public static BatchItemResult duplicate(int index, String email) {
+        return new BatchItemResult(index, Status.DUPLICATE, null, "El email ya esta registrado: " + email);
+    }
+
+    public int getIndex() { return index; }
+    public Status getStatus() { return status; }
+    public Persona getPersona() { return persona; }
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,17 @@
+package com.crudpersonas.app.domain.model;
+
+import java.util.List;
+
+public class BulkDeleteResult {
+
+    private final int deleted;
+    private final List<Long> notFound;
+
+    public BulkDeleteResult(int deleted, List<Long> notFound) {
+        this.deleted = deleted;
+        this.notFound = notFound;
+    }
+
+    public int getDeleted() { return deleted; }
+    public List<Long> getNotFound() { return notFound; }
+}
@@ -5,20 +5,27 @@ public class Persona {
     private final Long id;
     private final String nombre;
     private final String email;
+    private final Long version;
 
     public Persona(Long id, String nombre, String email) {
+        this(id, nombre, email, null);
+    }
+
+    public Persona(Long id, String nombre, String email, Long version) {
         this.id = id;
         this.nombre = nombre;
         this.email = email;
+        this.version = version;
     }
 
     public Persona withNombreAndEmail(String nombre, String email) {
-        return new Persona(this.id, nombre, email);
+        return new Persona(this.id, nombre, email, this.version);
     }
 
     public Long getId() { return id; }
     public String getNombre() { return nombre; }
     public String getEmail() { return email; }
+    public Long getVersion() { return version; }
 }
 
    
@@ -0,0 +1,12 @@
+package com.crudpersonas.app.domain.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum PersonaField {
+
+    ID, NOMBRE, EMAIL, VERSION;
+
+    public static final Set<PersonaField> ALL = Collections.unmodifiableSet(EnumSet.allOf(PersonaField.class));
+}
@@ -0,0 +1,166 @@
+package com.crudpersonas.app.infrastructure.adapters.input.coalescing;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.BulkDeleteResult;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical reads share one call to the delegate. The table version is part of the
+ * key, so a read issued after a write never joins a query that started before it; writes pass through.
+ * A GET request looks the version up once and reuses it for its filter key, ETag and read keys. Lookups by
+ * id are not coalesced: the repository's id cache answers them for less than the version lookup costs.
+ */
+public class CoalescingPersonaUseCase implements PersonaUseCase {
+
+    static final String COALESCED = "personas.coalesced";
+
+    private static final List<String> OPERATIONS =
+            List.of("listAll", "listPage", "listSlice", "listApproximate", "listAfter", "search");
+
+    private static final String TABLE_VERSION = CoalescingPersonaUseCase.class.getName() + ".tableVersion";
+
+    private final PersonaUseCase delegate;
+    private final SingleFlight<Read, Object> flights;
+
+    public CoalescingPersonaUseCase(PersonaUseCase delegate, Duration joinTimeout, MeterRegistry registry) {
+        this.delegate = delegate;
+        Map<String, Counter> joined = new HashMap<>();
+        for (String operation : OPERATIONS) {
+            joined.put(operation, Counter.builder(COALESCED)
+                    .tag("layer", "usecase")
+                    .tag("operation", operation)
+                    .register(registry));
+        }
+        this.flights = new SingleFlight<>(joinTimeout, read -> joined.get(read.operation()).increment());
+    }
+
+    @Override
+    public List<Persona> listAll() {
+        return coalesced("listAll", delegate::listAll);
+    }
+
+    @Override
+    public List<Persona> listAll(Set<PersonaField> fields) {
+        return coalesced("listAll", () -> delegate.listAll(fields), fields);
+    }
+
+    @Override
+    public void streamAll(Consumer<Persona> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable) {
+        return coalesced("listPage", () -> delegate.listAll(pageable), pageable);
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable, Set<PersonaField> fields) {
+        return coalesced("listPage", () -> delegate.listAll(pageable, fields), pageable, fields);
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable) {
+        return coalesced("listSlice", () -> delegate.listSlice(pageable), pageable);
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields) {
+        return coalesced("listSlice", () -> delegate.listSlice(pageable, fields), pageable, fields);
+    }
+
+    @Override
+    public Page<Persona> listAllApproximate(Pageable pageable) {
+        return coalesced("listApproximate", () -> delegate.listAllApproximate(pageable), pageable);
+    }
+
+    @Override
+    public Page<Persona> listAllApproximate(Pageable pageable, Set<PersonaField> fields) {
+        return coalesced("listApproximate", () -> delegate.listAllApproximate(pageable, fields), pageable, fields);
+    }
+
+    @Override
+    public Slice<Persona> listAfter(Long afterId, int size) {
+        return coalesced("listAfter", () -> delegate.listAfter(afterId, size), afterId, size);
+    }
+
+    @Override
+    public Slice<Persona> search(String query, Pageable pageable) {
+        return coalesced("search", () -> delegate.search(query, pageable), query, pageable);
+    }
+
+    @Override
+    public Persona getById(Long id) {
+        return delegate.getById(id);
+    }
+
+    @Override
+    public Persona create(Persona persona) {
+        return delegate.create(persona);
+    }
+
+    @Override
+    public List<BatchItemResult> createAll(List<Persona> personas) {
+        return delegate.createAll(personas);
+    }
+
+    @Override
+    public Persona update(Long id, Persona persona) {
+        return delegate.update(id, persona);
+    }
+
+    @Override
+    public void delete(Long id) {
+        delegate.delete(id);
+    }
+
+    @Override
+    public BulkDeleteResult deleteAll(List<Long> ids) {
+        return delegate.deleteAll(ids);
+    }
+
+    // A GET does not write, so the version read at its start holds for all of its reads
+    @Override
+    public String tableVersion() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)
+                || !HttpMethod.GET.matches(attributes.getRequest().getMethod())) {
+            return delegate.tableVersion();
+        }
+        String version = (String) attributes.getAttribute(TABLE_VERSION, RequestAttributes.SCOPE_REQUEST);
+        if (version == null) {
+            version = delegate.tableVersion();
+            attributes.setAttribute(TABLE_VERSION, version, RequestAttributes.SCOPE_REQUEST);
+        }
+        return version;
+    }
+
+    // Every caller receives the same instance, which is fine while results are only read
+    @SuppressWarnings("unchecked")
+    private <T> T coalesced(String operation, Supplier<T> read, Object... args) {
+        Read key = new Read(operation, Arrays.asList(args), tableVersion());
+        return (T) flights.execute(key, read::get);
+    }
+
+    private record Read(String operation, List<Object> args, String tableVersion) {
+    }
+}
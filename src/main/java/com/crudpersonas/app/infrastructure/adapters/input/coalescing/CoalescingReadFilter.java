@@ -0,0 +1,156 @@
+package com.crudpersonas.app.infrastructure.adapters.input.coalescing;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Identical GETs that arrive while one of them is being served share its response: the first runs the
+ * handler into a buffer and the rest replay the same status, headers and bytes, so the query and the
+ * serialization happen once. Everything that can change the representation is part of the key, and
+ * so is the table version, so nobody receives a response computed before their own write. Because every
+ * matching response is held in memory before it is sent, the filter is off unless
+ * {@code personas.coalescing.enabled} is set.
+ */
+public class CoalescingReadFilter extends OncePerRequestFilter {
+
+    public static final List<String> PATHS = List.of("/api/personas", "/api/personas/page");
+
+    private static final String NDJSON = "ndjson";
+
+    private final PersonaUseCase personaUseCase;
+    private final SingleFlight<RequestKey, CapturedResponse> flights;
+
+    public CoalescingReadFilter(PersonaUseCase personaUseCase, Duration joinTimeout, MeterRegistry registry) {
+        this.personaUseCase = personaUseCase;
+        Map<String, Counter> joined = new HashMap<>();
+        for (String path : PATHS) {
+            joined.put(path, Counter.builder(CoalescingPersonaUseCase.COALESCED)
+                    .tag("layer", "http")
+                    .tag("operation", "GET " + path)
+                    .register(registry));
+        }
+        this.flights = new SingleFlight<>(joinTimeout, key -> joined.get(key.path()).increment());
+    }
+
+    // Streamed NDJSON is written asynchronously and cannot be buffered here
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return !"GET".equals(request.getMethod())
+                || !PATHS.contains(request.getRequestURI())
+                || (accept != null && accept.contains(NDJSON));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // The use case keeps this version for the request, so the handler's ETag and reads do not query it again
+        RequestKey key = new RequestKey(request.getRequestURI(), request.getQueryString(),
+                request.getHeader(HttpHeaders.ACCEPT), request.getHeader(HttpHeaders.ORIGIN),
+                request.getHeader(HttpHeaders.IF_NONE_MATCH), personaUseCase.tableVersion());
+        ContentCachingResponseWrapper buffer = new ContentCachingResponseWrapper(response);
+        AtomicBoolean led = new AtomicBoolean();
+        CapturedResponse captured;
+        try {
+            captured = flights.execute(key, () -> {
+                led.set(true);
+                return capture(request, buffer, chain);
+            });
+        } catch (RuntimeException ex) {
+            if (led.get()) {
+                rethrow(ex);
+            }
+            // The shared attempt failed; this request still deserves its own
+            chain.doFilter(request, response);
+            return;
+        }
+        if (led.get()) {
+            writeBody(captured.content(), response);
+        } else {
+            replay(captured, response);
+        }
+    }
+
+    private static CapturedResponse capture(HttpServletRequest request, ContentCachingResponseWrapper buffer,
+                                            FilterChain chain) {
+        try {
+            chain.doFilter(request, buffer);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (ServletException ex) {
+            throw new ChainFailure(ex);
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : buffer.getHeaderNames()) {
+            headers.put(name, List.copyOf(buffer.getHeaders(name)));
+        }
+        return new CapturedResponse(buffer.getStatus(), buffer.getContentType(), headers, buffer);
+    }
+
+    private static void replay(CapturedResponse captured, HttpServletResponse response) throws IOException {
+        response.setStatus(captured.status());
+        captured.headers().forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                values.forEach(value -> response.addHeader(name, value));
+            }
+        });
+        if (captured.contentType() != null) {
+            response.setContentType(captured.contentType());
+        }
+        writeBody(captured.content(), response);
+    }
+
+    // Every reader streams the same captured buffer; nothing is copied per response
+    private static void writeBody(ContentCachingResponseWrapper content, HttpServletResponse response)
+            throws IOException {
+        response.setContentLength(content.getContentSize());
+        content.getContentInputStream().transferTo(response.getOutputStream());
+    }
+
+    private static void rethrow(RuntimeException ex) throws ServletException, IOException {
+        if (ex instanceof UncheckedIOException io) {
+            throw io.getCause();
+        }
+        if (ex instanceof ChainFailure failure) {
+            throw failure.getCause();
+        }
+        throw ex;
+    }
+
+    private record RequestKey(String path, String query, String accept, String origin, String ifNoneMatch,
+                              String tableVersion) {
+    }
+
+    private record CapturedResponse(int status, String contentType, Map<String, List<String>> headers,
+                                    ContentCachingResponseWrapper content) {
+    }
+
+    private static final class ChainFailure extends RuntimeException {
+
+        ChainFailure(ServletException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized ServletException getCause() {
+            return (ServletException) super.getCause();
+        }
+    }
+}
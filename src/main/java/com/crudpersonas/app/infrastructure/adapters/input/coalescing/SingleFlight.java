@@ -0,0 +1,75 @@
+package com.crudpersonas.app.infrastructure.adapters.input.coalescing;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one call per key at a time: callers arriving while a call for the same key is in flight
+ * wait for it and receive its result or exception instead of starting their own. Nothing is kept once
+ * the call completes, so this coalesces concurrent work and never serves stale results later. A caller
+ * waits at most the join timeout and then makes the call itself, so a slow shared call never holds
+ * followers longer than the concurrency limit would have let them queue.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long joinTimeoutNanos;
+    private final Consumer<K> onJoin;
+
+    public SingleFlight(Duration joinTimeout, Consumer<K> onJoin) {
+        this.joinTimeoutNanos = joinTimeout.toNanos();
+        this.onJoin = onJoin;
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            onJoin.accept(key);
+            try {
+                return await(running);
+            } catch (TimeoutException ex) {
+                return call.get();
+            }
+        }
+        try {
+            V value = call.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> running) throws TimeoutException {
+        try {
+            return running.get(joinTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new CompletionException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.crudpersonas.app.infrastructure.adapters.input.concurrency;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.exception.ConcurrencyLimitExceededException;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.BulkDeleteResult;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many transactional calls run at once, so that thousands of virtual threads queue on a
+ * fair semaphore sized to the connection pool instead of stampeding the pool and timing out there.
+ */
+public class ConcurrencyLimitedPersonaUseCase implements PersonaUseCase {
+
+    private final PersonaUseCase delegate;
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+
+    public ConcurrencyLimitedPersonaUseCase(PersonaUseCase delegate, int maxConcurrent, Duration acquireTimeout) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public List<Persona> listAll() {
+        return limited(delegate::listAll);
+    }
+
+    @Override
+    public List<Persona> listAll(Set<PersonaField> fields) {
+        return limited(() -> delegate.listAll(fields));
+    }
+
+    @Override
+    public void streamAll(Consumer<Persona> consumer) {
+        limited(() -> {
+            delegate.streamAll(consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable) {
+        return limited(() -> delegate.listAll(pageable));
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable, Set<PersonaField> fields) {
+        return limited(() -> delegate.listAll(pageable, fields));
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable) {
+        return limited(() -> delegate.listSlice(pageable));
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields) {
+        return limited(() -> delegate.listSlice(pageable, fields));
+    }
+
+    @Override
+    public Page<Persona> listAllApproximate(Pageable pageable) {
+        return limited(() -> delegate.listAllApproximate(pageable));
+    }
+
+    @Override
+    public Page<Persona> listAllApproximate(Pageable pageable, Set<PersonaField> fields) {
+        return limited(() -> delegate.listAllApproximate(pageable, fields));
+    }
+
+    @Override
+    public Slice<Persona> listAfter(Long afterId, int size) {
+        return limited(() -> delegate.listAfter(afterId, size));
+    }
+
+    @Override
+    public Slice<Persona> search(String query, Pageable pageable) {
+        return limited(() -> delegate.search(query, pageable));
+    }
+
+    @Override
+    public Persona getById(Long id) {
+        return limited(() -> delegate.getById(id));
+    }
+
+    @Override
+    public Persona create(Persona persona) {
+        return limited(() -> delegate.create(persona));
+    }
+
+    @Override
+    public List<BatchItemResult> createAll(List<Persona> personas) {
+        return limited(() -> delegate.createAll(personas));
+    }
+
+    @Override
+    public Persona update(Long id, Persona persona) {
+        return limited(() -> delegate.update(id, persona));
+    }
+
+    @Override
+    public void delete(Long id) {
+        limited(() -> {
+            delegate.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public BulkDeleteResult deleteAll(List<Long> ids) {
+        return limited(() -> delegate.deleteAll(ids));
+    }
+
+    @Override
+    public String tableVersion() {
+        return delegate.tableVersion();
+    }
+
+    private <T> T limited(Supplier<T> operation) {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new ConcurrencyLimitExceededException();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyLimitExceededException();
+        }
+        try {
+            return operation.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.crudpersonas.app.infrastructure.adapters.input.csv;
+
+class CsvFormatException extends RuntimeException {
+
+    private final long line;
+
+    CsvFormatException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+
+    long getLine() {
+        return line;
+    }
+}
@@ -0,0 +1,20 @@
+package com.crudpersonas.app.infrastructure.adapters.input.csv;
+
+public class CsvImportRowError {
+
+    public enum Status { INVALID, DUPLICATE }
+
+    private final long line;
+    private final Status status;
+    private final String message;
+
+    public CsvImportRowError(long line, Status status, String message) {
+        this.line = line;
+        this.status = status;
+        this.message = message;
+    }
+
+    public long getLine() { return line; }
+    public Status getStatus() { return status; }
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,30 @@
+package com.crudpersonas.app.infrastructure.adapters.input.csv;
+
+public class CsvImportSummary {
+
+    public enum Status { COMPLETED, FAILED, CANCELLED }
+
+    private final Status status;
+    private final long rows;
+    private final long imported;
+    private final long rejected;
+    private final double rowsPerSecond;
+    private final String message;
+
+    public CsvImportSummary(Status status, long rows, long imported, long rejected, double rowsPerSecond,
+                            String message) {
+        this.status = status;
+        this.rows = rows;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.rowsPerSecond = rowsPerSecond;
+        this.message = message;
+    }
+
+    public Status getStatus() { return status; }
+    public long getRows() { return rows; }
+    public long getImported() { return imported; }
+    public long getRejected() { return rejected; }
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public String getMessage() { return message; }
+}
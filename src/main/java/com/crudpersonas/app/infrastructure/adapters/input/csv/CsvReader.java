@@ -0,0 +1,140 @@
+package com.crudpersonas.app.infrastructure.adapters.input.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: comma separated, double-quoted fields may hold commas, line breaks and
+ * doubled quotes. Only one record is held in memory at a time and records longer than
+ * {@link #MAX_RECORD_CHARS} are rejected, so a stray quote cannot pull the rest of the file into memory.
+ */
+final class CsvReader {
+
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private int pending = NONE;
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next non-blank record, or {@code null} at end of input.
+     */
+    List<String> next() throws IOException {
+        while (true) {
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean fieldStart = true;
+            int length = 0;
+            int c;
+            while (true) {
+                c = read();
+                if (c == -1) {
+                    if (quoted) {
+                        throw new CsvFormatException(recordLine, "comillas sin cerrar");
+                    }
+                    break;
+                }
+                if (++length > MAX_RECORD_CHARS) {
+                    skipRecord(c, quoted);
+                    throw new CsvFormatException(recordLine, "la fila supera " + MAX_RECORD_CHARS + " caracteres");
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        int after = read();
+                        if (after == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            unread(after);
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    fieldStart = true;
+                    continue;
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r') {
+                        int after = read();
+                        if (after != '\n') {
+                            unread(after);
+                        }
+                    }
+                    line++;
+                    break;
+                } else if (c == '"' && fieldStart) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+                fieldStart = false;
+            }
+            if (c == -1 && fields.isEmpty() && field.isEmpty()) {
+                return null;
+            }
+            fields.add(field.toString());
+            if (fields.size() > 1 || !fields.get(0).isBlank()) {
+                return fields;
+            }
+        }
+    }
+
+    /**
+     * Line on which the record last returned by {@link #next()} starts.
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    private void skipRecord(int c, boolean quoted) throws IOException {
+        // Resynchronise on the next line break outside quotes so later rows are still read
+        while (c != -1) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '\n') {
+                line++;
+                if (!quoted) {
+                    return;
+                }
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != NONE) {
+            int c = pending;
+            pending = NONE;
+            return c;
+        }
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+}
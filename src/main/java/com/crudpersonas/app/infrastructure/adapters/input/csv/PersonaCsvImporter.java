@@ -0,0 +1,225 @@
+package com.crudpersonas.app.infrastructure.adapters.input.csv;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.exception.InvalidCsvHeaderException;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.PersonaRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Imports personas from CSV with a {@code nombre,email} header (any column order, extra columns are
+ * ignored). Rows are validated with the {@link PersonaRequest} rules and committed in chunks through
+ * {@link PersonaUseCase#createAll}, so each chunk is one transaction of batched inserts and memory stays
+ * flat however large the file is. Rejected rows are reported as they are found.
+ */
+public class PersonaCsvImporter {
+
+    static final String ROWS = "personas.import.rows";
+    static final String ACTIVE = "personas.import.active";
+
+    private static final Logger log = LoggerFactory.getLogger(PersonaCsvImporter.class);
+
+    private final PersonaUseCase personaUseCase;
+    private final Validator validator;
+    private final int chunkSize;
+    private final Counter importedRows;
+    private final Counter invalidRows;
+    private final Counter duplicateRows;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public PersonaCsvImporter(PersonaUseCase personaUseCase, Validator validator, MeterRegistry registry,
+                              int chunkSize) {
+        this.personaUseCase = personaUseCase;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.importedRows = rows(registry, "imported");
+        this.invalidRows = rows(registry, "invalid");
+        this.duplicateRows = rows(registry, "duplicate");
+        Gauge.builder(ACTIVE, active, AtomicInteger::get).register(registry);
+    }
+
+    /**
+     * Reads and checks the header, so a file that cannot be imported fails before any response is sent.
+     */
+    public CsvImport open(Reader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header;
+        try {
+            header = csv.next();
+        } catch (CsvFormatException ex) {
+            throw new InvalidCsvHeaderException();
+        }
+        if (header == null) {
+            throw new InvalidCsvHeaderException();
+        }
+        List<String> columns = header.stream().map(column -> column.strip().toLowerCase(Locale.ROOT)).toList();
+        int nombre = columns.indexOf("nombre");
+        int email = columns.indexOf("email");
+        if (nombre < 0 || email < 0) {
+            throw new InvalidCsvHeaderException();
+        }
+        return new CsvImport(csv, nombre, email);
+    }
+
+    private static Counter rows(MeterRegistry registry, String result) {
+        return Counter.builder(ROWS).tag("result", result).register(registry);
+    }
+
+    public final class CsvImport {
+
+        private final CsvReader csv;
+        private final int nombreColumn;
+        private final int emailColumn;
+        private final List<Persona> chunk = new ArrayList<>();
+        private final List<Long> chunkLines = new ArrayList<>();
+        private long rows;
+        private long imported;
+        private long rejected;
+        private volatile boolean cancelled;
+
+        private CsvImport(CsvReader csv, int nombreColumn, int emailColumn) {
+            this.csv = csv;
+            this.nombreColumn = nombreColumn;
+            this.emailColumn = emailColumn;
+        }
+
+        public CsvImportSummary run(Consumer<CsvImportRowError> errors) {
+            long start = System.nanoTime();
+            active.incrementAndGet();
+            try {
+                List<String> fields;
+                while (!cancelled && (fields = nextRecord(errors)) != null) {
+                    if (fields.isEmpty()) {
+                        continue;
+                    }
+                    accept(fields, errors);
+                    if (chunk.size() >= chunkSize) {
+                        flush(errors);
+                    }
+                }
+                if (cancelled) {
+                    // The rows read since the last commit are dropped, earlier chunks stay
+                    log.warn("CSV import cancelled after {} rows, {} imported", rows, imported);
+                    return summary(CsvImportSummary.Status.CANCELLED, start, "Importacion cancelada");
+                }
+                flush(errors);
+                return summary(CsvImportSummary.Status.COMPLETED, start, null);
+            } catch (IOException | RuntimeException ex) {
+                // Chunks committed so far stay; the summary tells the client how far the import got
+                log.error("CSV import stopped after {} rows", rows, ex);
+                return summary(CsvImportSummary.Status.FAILED, start, "Error inesperado, intente nuevamente");
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+
+        /**
+         * Stops {@link #run} before the next row; safe to call from any thread.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private List<String> nextRecord(Consumer<CsvImportRowError> errors) throws IOException {
+            try {
+                return csv.next();
+            } catch (CsvFormatException ex) {
+                rows++;
+                reject(errors, ex.getLine(), CsvImportRowError.Status.INVALID, ex.getMessage());
+                return List.of();
+            }
+        }
+
+        private void accept(List<String> fields, Consumer<CsvImportRowError> errors) {
+            rows++;
+            PersonaRequest request = new PersonaRequest();
+            request.setNombre(field(fields, nombreColumn));
+            request.setEmail(field(fields, emailColumn));
+            ConstraintViolation<PersonaRequest> violation = validator.validate(request).stream()
+                    .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .orElse(null);
+            if (violation != null) {
+                reject(errors, csv.recordLine(), CsvImportRowError.Status.INVALID,
+                        violation.getPropertyPath() + " " + violation.getMessage());
+                return;
+            }
+            chunk.add(new Persona(null, request.getNombre(), request.getEmail()));
+            chunkLines.add(csv.recordLine());
+        }
+
+        private void flush(Consumer<CsvImportRowError> errors) {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                report(personaUseCase.createAll(chunk), chunkLines, errors);
+            } catch (DuplicateEmailException ex) {
+                // Other writers kept taking emails under the use case's own retry: the rows it named become
+                // per-row errors and only the rest is submitted again
+                List<Persona> remaining = new ArrayList<>();
+                List<Long> remainingLines = new ArrayList<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    Persona persona = chunk.get(i);
+                    if (ex.getEmails().contains(persona.getEmail())) {
+                        reject(errors, chunkLines.get(i), CsvImportRowError.Status.DUPLICATE,
+                                BatchItemResult.duplicate(i, persona.getEmail()).getMessage());
+                    } else {
+                        remaining.add(persona);
+                        remainingLines.add(chunkLines.get(i));
+                    }
+                }
+                if (!remaining.isEmpty()) {
+                    report(personaUseCase.createAll(remaining), remainingLines, errors);
+                }
+            }
+            chunk.clear();
+            chunkLines.clear();
+        }
+
+        private void report(List<BatchItemResult> results, List<Long> lines, Consumer<CsvImportRowError> errors) {
+            for (BatchItemResult result : results) {
+                if (result.getStatus() == BatchItemResult.Status.CREATED) {
+                    imported++;
+                    importedRows.increment();
+                } else {
+                    reject(errors, lines.get(result.getIndex()), CsvImportRowError.Status.DUPLICATE,
+                            result.getMessage());
+                }
+            }
+        }
+
+        private void reject(Consumer<CsvImportRowError> errors, long line, CsvImportRowError.Status status,
+                            String message) {
+            rejected++;
+            (status == CsvImportRowError.Status.DUPLICATE ? duplicateRows : invalidRows).increment();
+            errors.accept(new CsvImportRowError(line, status, message));
+        }
+
+        private CsvImportSummary summary(CsvImportSummary.Status status, long start, String message) {
+            double seconds = Math.max(1, System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+            return new CsvImportSummary(status, rows, imported, rejected, Math.round(rows / seconds * 10) / 10.0, message);
+        }
+
+        private static String field(List<String> fields, int column) {
+            return column < fields.size() ? fields.get(column).strip() : null;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.crudpersonas.app.infrastructure.adapters.input.groupcommit;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.exception.WriteQueueFullException;
+import com.crudpersonas.app.domain.exception.WriteUnavailableException;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.BulkDeleteResult;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Turns single creates into group commits: each {@link #create} is queued with its own future and a
+ * flusher thread commits whatever has piled up as one {@link PersonaUseCase#createAll} transaction,
+ * which also settles email conflicts inside the batch. A full queue is rejected immediately with
+ * {@link WriteQueueFullException} instead of letting callers pile up. Callers wait at most the commit
+ * timeout, and creates that arrive during shutdown or outlive the flusher fail with
+ * {@link WriteUnavailableException} so clients retry against another instance. A create that times out
+ * while still queued is withdrawn and never written; one the flusher has already taken may still commit,
+ * so for it that exception does not mean the row was not written.
+ */
+public class GroupCommitPersonaUseCase implements PersonaUseCase, AutoCloseable {
+
+    static final String BATCH_SIZE = "personas.groupcommit.batch.size";
+    static final String COMMIT = "personas.groupcommit.commit";
+    static final String QUEUE_SIZE = "personas.groupcommit.queue.size";
+    static final String REJECTED = "personas.groupcommit.rejected";
+
+    private static final long POLL_MILLIS = 100;
+
+    private final PersonaUseCase delegate;
+    private final BlockingQueue<PendingCreate> queue;
+    private final int maxBatchSize;
+    private final long commitTimeoutNanos;
+    private final Thread flusher;
+    private final DistributionSummary batchSizes;
+    private final Timer commitTimer;
+    private final Counter rejected;
+
+    // Submits offer under the read lock and shutdown flips running under the write lock, so no create
+    // can slip into the queue after the final drain
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    public GroupCommitPersonaUseCase(PersonaUseCase delegate, int queueCapacity, int maxBatchSize,
+                                     Duration commitTimeout, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.commitTimeoutNanos = commitTimeout.toNanos();
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.commitTimer = Timer.builder(COMMIT)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.rejected = Counter.builder(REJECTED).register(registry);
+        Gauge.builder(QUEUE_SIZE, queue, BlockingQueue::size).register(registry);
+        this.flusher = new Thread(this::flushLoop, "personas-group-commit");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public CompletableFuture<Persona> submit(Persona persona) {
+        return enqueue(persona).future();
+    }
+
+    private PendingCreate enqueue(Persona persona) {
+        PendingCreate pending = new PendingCreate(persona, new CompletableFuture<>(), new AtomicBoolean());
+        acceptLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new WriteUnavailableException();
+            }
+            if (!queue.offer(pending)) {
+                rejected.increment();
+                throw new WriteQueueFullException();
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        return pending;
+    }
+
+    @Override
+    public Persona create(Persona persona) {
+        PendingCreate pending = enqueue(persona);
+        try {
+            return pending.future().get(commitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(ex.getCause());
+        } catch (TimeoutException ex) {
+            abandon(pending);
+            throw new WriteUnavailableException();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            abandon(pending);
+            throw new WriteUnavailableException();
+        }
+    }
+
+    // Withdraws the create unless the flusher already took it, in which case it may still commit
+    private void abandon(PendingCreate pending) {
+        if (pending.claim()) {
+            queue.remove(pending);
+            pending.future().cancel(false);
+        }
+    }
+
+    @Override
+    public List<Persona> listAll() {
+        return delegate.listAll();
+    }
+
+    @Override
+    public List<Persona> listAll(Set<PersonaField> fields) {
+        return delegate.listAll(fields);
+    }
+
+    @Override
+    public void streamAll(Consumer<Persona> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable) {
+        return delegate.listAll(pageable);
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable, Set<PersonaField> fields) {
+        return delegate.listAll(pageable, fields);
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable) {
+        return delegate.listSlice(pageable);
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields) {
+        return delegate.listSlice(pageable, fields);
+    }
+
+    @Override
+    public Page<Persona> listAllApproximate(Pageable pageable) {
+        return delegate.listAllApproximate(pageable);
+    }
+
+    @Override
+    public Page<Persona> listAllApproximate(Pageable pageable, Set<PersonaField> fields) {
+        return delegate.listAllApproximate(pageable, fields);
+    }
+
+    @Override
+    public Slice<Persona> listAfter(Long afterId, int size) {
+        return delegate.listAfter(afterId, size);
+    }
+
+    @Override
+    public Slice<Persona> search(String query, Pageable pageable) {
+        return delegate.search(query, pageable);
+    }
+
+    @Override
+    public Persona getById(Long id) {
+        return delegate.getById(id);
+    }
+
+    @Override
+    public List<BatchItemResult> createAll(List<Persona> personas) {
+        return delegate.createAll(personas);
+    }
+
+    @Override
+    public Persona update(Long id, Persona persona) {
+        return delegate.update(id, persona);
+    }
+
+    @Override
+    public void delete(Long id) {
+        delegate.delete(id);
+    }
+
+    @Override
+    public BulkDeleteResult deleteAll(List<Long> ids) {
+        return delegate.deleteAll(ids);
+    }
+
+    @Override
+    public String tableVersion() {
+        return delegate.tableVersion();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        stopAccepting();
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+        failLeftovers();
+    }
+
+    private void flushLoop() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                // No linger: whatever queued up while the previous commit ran forms the next batch
+                PendingCreate first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                // Callers that gave up before this point have withdrawn their creates
+                batch.removeIf(pending -> !pending.claim());
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // However the flusher stops, nobody is left waiting on a future it would have completed
+            stopAccepting();
+            batch.forEach(pending -> pending.future().completeExceptionally(new WriteUnavailableException()));
+            failLeftovers();
+        }
+    }
+
+    private void stopAccepting() {
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+    }
+
+    private void failLeftovers() {
+        PendingCreate pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(new WriteUnavailableException());
+        }
+    }
+
+    private void commit(List<PendingCreate> batch) {
+        batchSizes.record(batch.size());
+        List<Persona> personas = batch.stream().map(PendingCreate::persona).toList();
+        Timer.Sample sample = Timer.start();
+        try {
+            List<BatchItemResult> results = delegate.createAll(personas);
+            for (BatchItemResult result : results) {
+                PendingCreate pending = batch.get(result.getIndex());
+                if (result.getStatus() == BatchItemResult.Status.CREATED) {
+                    pending.future().complete(result.getPersona());
+                } else {
+                    pending.future().completeExceptionally(new DuplicateEmailException(pending.persona().getEmail()));
+                }
+            }
+        } catch (DuplicateEmailException ex) {
+            // A row committed outside this batch slipped past the pre-check; settle each request on its own
+            batch.forEach(this::commitAlone);
+        } catch (RuntimeException ex) {
+            batch.forEach(pending -> pending.future().completeExceptionally(ex));
+        } catch (Error ex) {
+            batch.forEach(pending -> pending.future().completeExceptionally(ex));
+            throw ex;
+        } finally {
+            sample.stop(commitTimer);
+        }
+    }
+
+    private void commitAlone(PendingCreate pending) {
+        try {
+            pending.future().complete(delegate.create(pending.persona()));
+        } catch (RuntimeException ex) {
+            pending.future().completeExceptionally(ex);
+        }
+    }
+
+    // Claimed once, either by the flusher taking it into a batch or by its caller giving up on it
+    private record PendingCreate(Persona persona, CompletableFuture<Persona> future, AtomicBoolean claimed) {
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
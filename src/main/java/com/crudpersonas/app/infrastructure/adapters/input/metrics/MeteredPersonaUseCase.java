@@ -0,0 +1,225 @@
+package com.crudpersonas.app.infrastructure.adapters.input.metrics;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.domain.exception.VersionConflictException;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.BulkDeleteResult;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Times each {@link PersonaUseCase} operation (transaction included) and counts the domain errors it
+ * raises. Meters are registered once up front so the hot path only records.
+ */
+public class MeteredPersonaUseCase implements PersonaUseCase {
+
+    static final String TIMER = "personas.usecase";
+    static final String ERRORS = "personas.usecase.errors";
+    static final String RESULT_SIZE = "personas.usecase.result.size";
+
+    private final PersonaUseCase delegate;
+    private final Timer listAllTimer;
+    private final Timer streamAllTimer;
+    private final Timer listPageTimer;
+    private final Timer listAfterTimer;
+    private final Timer searchTimer;
+    private final Timer getByIdTimer;
+    private final Timer createTimer;
+    private final Timer createAllTimer;
+    private final Timer updateTimer;
+    private final Timer deleteTimer;
+    private final Timer deleteAllTimer;
+    private final Counter duplicateEmailErrors;
+    private final Counter notFoundErrors;
+    private final Counter versionConflictErrors;
+    private final DistributionSummary listAllSize;
+    private final DistributionSummary listPageSize;
+    private final DistributionSummary searchSize;
+
+    public MeteredPersonaUseCase(PersonaUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.listAllTimer = timer(registry, "listAll");
+        this.streamAllTimer = timer(registry, "streamAll");
+        this.listPageTimer = timer(registry, "listPage");
+        this.listAfterTimer = timer(registry, "listAfter");
+        this.searchTimer = timer(registry, "search");
+        this.getByIdTimer = timer(registry, "getById");
+        this.createTimer = timer(registry, "create");
+        this.createAllTimer = timer(registry, "createAll");
+        this.updateTimer = timer(registry, "update");
+        this.deleteTimer = timer(registry, "delete");
+        this.deleteAllTimer = timer(registry, "deleteAll");
+        this.duplicateEmailErrors = errors(registry, DuplicateEmailException.class);
+        this.notFoundErrors = errors(registry, PersonaNotFoundException.class);
+        this.versionConflictErrors = errors(registry, VersionConflictException.class);
+        this.listAllSize = resultSize(registry, "listAll");
+        this.listPageSize = resultSize(registry, "listPage");
+        this.searchSize = resultSize(registry, "search");
+    }
+
+    @Override
+    public List<Persona> listAll() {
+        List<Persona> result = record(listAllTimer, delegate::listAll);
+        listAllSize.record(result.size());
+        return result;
+    }
+
+    @Override
+    public List<Persona> listAll(Set<PersonaField> fields) {
+        List<Persona> result = record(listAllTimer, () -> delegate.listAll(fields));
+        listAllSize.record(result.size());
+        return result;
+    }
+
+    @Override
+    public void streamAll(Consumer<Persona> consumer) {
+        record(streamAllTimer, () -> {
+            delegate.streamAll(consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable) {
+        Page<Persona> result = record(listPageTimer, () -> delegate.listAll(pageable));
+        listPageSize.record(result.getNumberOfElements());
+        return result;
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable, Set<PersonaField> fields) {
+        Page<Persona> result = record(listPageTimer, () -> delegate.listAll(pageable, fields));
+        listPageSize.record(result.getNumberOfElements());
+        return result;
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable) {
+        Slice<Persona> result = record(listPageTimer, () -> delegate.listSlice(pageable));
+        listPageSize.record(result.getNumberOfElements());
+        return result;
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields) {
+        Slice<Persona> result = record(listPageTimer, () -> delegate.listSlice(pageable, fields));
+        listPageSize.record(result.getNumberOfElements());
+        return result;
+    }
+
+    @Override
+    public Page<Persona> listAllApproximate(Pageable pageable) {
+        Page<Persona> result = record(listPageTimer, () -> delegate.listAllApproximate(pageable));
+        listPageSize.record(result.getNumberOfElements());
+        return result;
+    }
+
+    @Override
+    public Page<Persona> listAllApproximate(Pageable pageable, Set<PersonaField> fields) {
+        Page<Persona> result = record(listPageTimer, () -> delegate.listAllApproximate(pageable, fields));
+        listPageSize.record(result.getNumberOfElements());
+        return result;
+    }
+
+    @Override
+    public Slice<Persona> listAfter(Long afterId, int size) {
+        return record(listAfterTimer, () -> delegate.listAfter(afterId, size));
+    }
+
+    @Override
+    public Slice<Persona> search(String query, Pageable pageable) {
+        Slice<Persona> result = record(searchTimer, () -> delegate.search(query, pageable));
+        searchSize.record(result.getNumberOfElements());
+        return result;
+    }
+
+    @Override
+    public Persona getById(Long id) {
+        return record(getByIdTimer, () -> delegate.getById(id));
+    }
+
+    @Override
+    public Persona create(Persona persona) {
+        return record(createTimer, () -> delegate.create(persona));
+    }
+
+    @Override
+    public List<BatchItemResult> createAll(List<Persona> personas) {
+        return record(createAllTimer, () -> delegate.createAll(personas));
+    }
+
+    @Override
+    public Persona update(Long id, Persona persona) {
+        return record(updateTimer, () -> delegate.update(id, persona));
+    }
+
+    @Override
+    public void delete(Long id) {
+        record(deleteTimer, () -> {
+            delegate.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public BulkDeleteResult deleteAll(List<Long> ids) {
+        return record(deleteAllTimer, () -> delegate.deleteAll(ids));
+    }
+
+    @Override
+    public String tableVersion() {
+        return delegate.tableVersion();
+    }
+
+    private <T> T record(Timer timer, Supplier<T> operation) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return operation.get();
+        } catch (DuplicateEmailException ex) {
+            duplicateEmailErrors.increment();
+            throw ex;
+        } catch (PersonaNotFoundException ex) {
+            notFoundErrors.increment();
+            throw ex;
+        } catch (VersionConflictException ex) {
+            versionConflictErrors.increment();
+            throw ex;
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String method) {
+        return Timer.builder(TIMER)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Counter errors(MeterRegistry registry, Class<? extends RuntimeException> type) {
+        return Counter.builder(ERRORS)
+                .tag("exception", type.getSimpleName())
+                .register(registry);
+    }
+
+    private static DistributionSummary resultSize(MeterRegistry registry, String method) {
+        return DistributionSummary.builder(RESULT_SIZE)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
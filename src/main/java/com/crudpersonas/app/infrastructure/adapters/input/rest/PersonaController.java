@@ -1,14 +1,34 @@
 package com.crudpersonas.app.infrastructure.adapters.input.rest;
 
 import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.exception.InvalidCountModeException;
+import com.crudpersonas.app.domain.exception.InvalidFieldsException;
+import com.crudpersonas.app.domain.exception.VersionConflictException;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.BulkDeleteResult;
 import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.BulkDeleteResponse;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.CursorPageResponse;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.PersonaBatchRequest;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.PersonaBulkDeleteRequest;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.PersonaFieldsResponse;
 import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.PersonaRequest;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.SliceResponse;
 import com.crudpersonas.app.utils.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,26 +36,70 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/personas")
 @CrossOrigin(origins = {"http://localhost:4200", "http://localhost:4202"})
 public class PersonaController {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final String TOTAL_APPROXIMATE_HEADER = "X-Total-Approximate";
+    static final int MAX_PAGE_SIZE = 1000;
+
     private final PersonaUseCase personaUseCase;
+    private final ObjectWriter personaWriter;
 
-    public PersonaController(PersonaUseCase personaUseCase) {
+    public PersonaController(PersonaUseCase personaUseCase, ObjectMapper objectMapper) {
         this.personaUseCase = personaUseCase;
+        this.personaWriter = objectMapper.writerFor(Persona.class);
     }
 
     @GetMapping
-    public List<Persona> getAll() {
-        return personaUseCase.listAll();
+    public ResponseEntity<List<?>> getAll(@RequestParam(required = false) String fields, WebRequest webRequest) {
+        Set<PersonaField> selected = parseFields(fields);
+        // checkNotModified answers 304 and sets the ETag header before any row is read
+        if (notModified(webRequest)) {
+            return null;
+        }
+        if (selected == null) {
+            return ResponseEntity.ok(personaUseCase.listAll());
+        }
+        return ResponseEntity.ok(personaUseCase.listAll(selected).stream().map(PersonaFieldsResponse::from).toList());
+    }
+
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = out -> personaUseCase.streamAll(persona -> {
+            try {
+                out.write(personaWriter.writeValueAsBytes(persona));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Persona> getById(@PathVariable Long id) {
+        return withVersionTag(personaUseCase.getById(id));
     }
 
     @PostMapping
@@ -44,10 +108,18 @@ public class PersonaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> createAll(@Valid @RequestBody PersonaBatchRequest request) {
+        List<Persona> personas = request.getPersonas().stream().map(this::toDomain).toList();
+        return ResponseEntity.ok(personaUseCase.createAll(personas));
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Persona> update(@PathVariable Long id, @Valid @RequestBody PersonaRequest request) {
-        Persona updated = personaUseCase.update(id, toDomain(request));
-        return ResponseEntity.ok(updated);
+    public ResponseEntity<Persona> update(@PathVariable Long id,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                          @Valid @RequestBody PersonaRequest request) {
+        Persona expected = new Persona(null, request.getNombre(), request.getEmail(), expectedVersion(id, ifMatch));
+        return withVersionTag(personaUseCase.update(id, expected));
     }
 
     @DeleteMapping("/{id}")
@@ -56,15 +128,120 @@ public class PersonaController {
         return ResponseEntity.ok(new ApiResponse("Persona eliminada"));
     }
 
+    @DeleteMapping
+    public ResponseEntity<BulkDeleteResponse> deleteAll(@Valid @RequestBody PersonaBulkDeleteRequest request) {
+        BulkDeleteResult result = personaUseCase.deleteAll(request.getIds());
+        return ResponseEntity.ok(new BulkDeleteResponse(result.getDeleted(), result.getNotFound()));
+    }
+
     private Persona toDomain(PersonaRequest request) {
         return new Persona(null, request.getNombre(), request.getEmail());
     }
 
+    // count=exact runs count(*), approximate uses a cached estimate and none skips the total altogether
     @GetMapping("/page")
     public ResponseEntity<?> getAllPaginated( //NOSONAR
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest
+    ) {
+        Set<PersonaField> selected = parseFields(fields);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        PageRequest pageRequest = PageRequest.of(page, size);
+        return switch (count.toLowerCase(Locale.ROOT)) {
+            case "exact" -> ResponseEntity.ok(selected == null
+                    ? personaUseCase.listAll(pageRequest)
+                    : personaUseCase.listAll(pageRequest, selected).map(PersonaFieldsResponse::from));
+            case "approximate" -> ResponseEntity.ok()
+                    .header(TOTAL_APPROXIMATE_HEADER, "true")
+                    .body(selected == null
+                            ? personaUseCase.listAllApproximate(pageRequest)
+                            : personaUseCase.listAllApproximate(pageRequest, selected).map(PersonaFieldsResponse::from));
+            case "none" -> {
+                Slice<?> slice = selected == null
+                        ? personaUseCase.listSlice(pageRequest)
+                        : personaUseCase.listSlice(pageRequest, selected).map(PersonaFieldsResponse::from);
+                yield ResponseEntity.ok(new SliceResponse<>(slice.getContent(), page, size, slice.hasNext()));
+            }
+            default -> throw new InvalidCountModeException(count);
+        };
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<Persona>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size
     ) {
-        return ResponseEntity.ok(personaUseCase.listAll(PageRequest.of(page, size)));
+        Slice<Persona> slice = personaUseCase.listAfter(PersonaCursor.decode(after), size);
+        List<Persona> content = slice.getContent();
+        String next = slice.hasNext() ? PersonaCursor.encode(content.get(content.size() - 1).getId()) : null;
+        return ResponseEntity.ok(new CursorPageResponse<>(content, size, slice.hasNext(), next));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SliceResponse<Persona>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size
+    ) {
+        Slice<Persona> slice = personaUseCase.search(q, PageRequest.of(page, size));
+        return ResponseEntity.ok(new SliceResponse<>(slice.getContent(), page, size, slice.hasNext()));
+    }
+
+    // Weak tag: one version covers the JSON, CBOR and Smile bodies, and Tomcat refuses to gzip strong ETags
+    private boolean notModified(WebRequest webRequest) {
+        if (webRequest instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return webRequest.checkNotModified("W/\"" + personaUseCase.tableVersion() + "\"");
+    }
+
+    static ResponseEntity<Persona> withVersionTag(Persona persona) {
+        if (persona.getVersion() == null) {
+            return ResponseEntity.ok(persona);
+        }
+        return ResponseEntity.ok().eTag(String.valueOf(persona.getVersion())).body(persona);
+    }
+
+    // Without If-Match (or with *) the update is unconditional; weak or unparsable tags never match
+    static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.strip())) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new VersionConflictException(id);
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new VersionConflictException(id);
+        }
+    }
+
+    // fields=id,nombre narrows the SELECT and the JSON to those properties; absent means every field
+    private Set<PersonaField> parseFields(String fields) {
+        if (fields == null) {
+            return null;
+        }
+        Set<PersonaField> selected = EnumSet.noneOf(PersonaField.class);
+        for (String name : fields.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            try {
+                selected.add(PersonaField.valueOf(name.strip().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidFieldsException(fields);
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidFieldsException(fields);
+        }
+        return selected;
     }
 }
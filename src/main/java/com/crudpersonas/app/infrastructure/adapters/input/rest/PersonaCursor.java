@@ -0,0 +1,32 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest;
+
+import com.crudpersonas.app.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor shared by the servlet and reactive controllers: the last id of a page, base64url
+ * encoded so clients treat it as a token rather than an id to build on.
+ */
+final class PersonaCursor {
+
+    private PersonaCursor() {
+    }
+
+    static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest;
+
+import com.crudpersonas.app.infrastructure.adapters.input.csv.CsvImportSummary;
+import com.crudpersonas.app.infrastructure.adapters.input.csv.PersonaCsvImporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * CSV import, either as the raw {@code text/csv} body or as the {@code file} part of a multipart form.
+ * The response is NDJSON: one line per rejected row while the import runs, then a summary line.
+ * Imports get their own timeout ({@code personas.import.timeout}) instead of the MVC async one; when it
+ * expires or the client goes away the import stops, since nobody is left to read the summary.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/personas/import")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:4202"})
+public class PersonaImportController {
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final PersonaCsvImporter csvImporter;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+    private final Duration timeout;
+    private final ObjectWriter errorWriter;
+    private final ObjectWriter summaryWriter;
+
+    public PersonaImportController(PersonaCsvImporter csvImporter, ObjectMapper objectMapper,
+                                   AsyncTaskExecutor applicationTaskExecutor,
+                                   @Value("${personas.import.timeout:1h}") Duration timeout) {
+        this.csvImporter = csvImporter;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.timeout = timeout;
+        this.errorWriter = objectMapper.writer();
+        this.summaryWriter = objectMapper.writerFor(CsvImportSummary.class);
+    }
+
+    @PostMapping(consumes = TEXT_CSV_VALUE, produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> importCsv(HttpServletRequest request) throws IOException {
+        Charset charset = request.getCharacterEncoding() == null
+                ? StandardCharsets.UTF_8
+                : Charset.forName(request.getCharacterEncoding());
+        return start(new InputStreamReader(request.getInputStream(), charset));
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> importCsvFile(@RequestPart("file") MultipartFile file) throws IOException {
+        return start(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private ResponseEntity<ResponseBodyEmitter> start(Reader reader) throws IOException {
+        PersonaCsvImporter.CsvImport csvImport = csvImporter.open(reader);
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeout.toMillis());
+        emitter.onTimeout(csvImport::cancel);
+        emitter.onError(ex -> csvImport.cancel());
+        applicationTaskExecutor.execute(() -> {
+            try {
+                CsvImportSummary summary = csvImport.run(error -> {
+                    try {
+                        send(emitter, errorWriter.writeValueAsBytes(error));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                send(emitter, summaryWriter.writeValueAsBytes(summary));
+                emitter.complete();
+            } catch (IOException | RuntimeException ex) {
+                emitter.completeWithError(ex);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    private static void send(ResponseBodyEmitter emitter, byte[] json) throws IOException {
+        byte[] line = Arrays.copyOf(json, json.length + 1);
+        line[json.length] = '\n';
+        emitter.send(line, APPLICATION_NDJSON);
+    }
+}
@@ -0,0 +1,92 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest;
+
+import com.crudpersonas.app.application.ports.input.ReactivePersonaUseCase;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.CursorPageResponse;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.PersonaRequest;
+import com.crudpersonas.app.utils.ApiResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/personas")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:4202"})
+public class ReactivePersonaController {
+
+    private final ReactivePersonaUseCase personaUseCase;
+
+    public ReactivePersonaController(ReactivePersonaUseCase personaUseCase) {
+        this.personaUseCase = personaUseCase;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Persona> getAll() {
+        return personaUseCase.listAll();
+    }
+
+    // Same contract as the servlet /cursor: opaque cursor in, one page plus the next cursor out
+    @GetMapping("/cursor")
+    public Mono<CursorPageResponse<Persona>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(PersonaController.MAX_PAGE_SIZE) int size
+    ) {
+        return personaUseCase.listAfter(PersonaCursor.decode(after), size).map(slice -> {
+            List<Persona> content = slice.getContent();
+            String next = slice.hasNext() ? PersonaCursor.encode(content.get(content.size() - 1).getId()) : null;
+            return new CursorPageResponse<>(content, size, slice.hasNext(), next);
+        });
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Persona>> getById(@PathVariable Long id) {
+        return personaUseCase.getById(id).map(PersonaController::withVersionTag);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Persona> create(@Valid @RequestBody PersonaRequest request) {
+        return personaUseCase.create(toDomain(request));
+    }
+
+    // Same If-Match rules as the servlet controller; the ETag carries the version the update returned
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Persona>> update(@PathVariable Long id,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                @Valid @RequestBody PersonaRequest request) {
+        Long expectedVersion = PersonaController.expectedVersion(id, ifMatch);
+        Persona expected = new Persona(null, request.getNombre(), request.getEmail(), expectedVersion);
+        return personaUseCase.update(id, expected).map(PersonaController::withVersionTag);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ApiResponse> delete(@PathVariable Long id) {
+        return personaUseCase.delete(id).thenReturn(new ApiResponse("Persona eliminada"));
+    }
+
+    private Persona toDomain(PersonaRequest request) {
+        return new Persona(null, request.getNombre(), request.getEmail());
+    }
+}
@@ -1,13 +1,24 @@
 package com.crudpersonas.app.infrastructure.adapters.input.rest;
 
+import com.crudpersonas.app.domain.exception.ConcurrencyLimitExceededException;
 import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.exception.InvalidCountModeException;
+import com.crudpersonas.app.domain.exception.InvalidCsvHeaderException;
+import com.crudpersonas.app.domain.exception.InvalidCursorException;
+import com.crudpersonas.app.domain.exception.InvalidFieldsException;
 import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.domain.exception.VersionConflictException;
+import com.crudpersonas.app.domain.exception.WriteQueueFullException;
+import com.crudpersonas.app.domain.exception.WriteUnavailableException;
 import com.crudpersonas.app.utils.ApiResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @RestControllerAdvice
 public class RestExceptionHandler {
@@ -22,18 +33,78 @@ public class RestExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(ex.getMessage()));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiResponse> handleInvalidCursor(InvalidCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidCountModeException.class)
+    public ResponseEntity<ApiResponse> handleInvalidCountMode(InvalidCountModeException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ApiResponse> handleInvalidFields(InvalidFieldsException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidCsvHeaderException.class)
+    public ResponseEntity<ApiResponse> handleInvalidCsvHeader(InvalidCsvHeaderException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ApiResponse> handleConcurrencyLimit(ConcurrencyLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ApiResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(WriteUnavailableException.class)
+    public ResponseEntity<ApiResponse> handleWriteUnavailable(WriteUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ApiResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ApiResponse> handleVersionConflict(VersionConflictException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(new ApiResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(WriteQueueFullException.class)
+    public ResponseEntity<ApiResponse> handleWriteQueueFull(WriteQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(new ApiResponse(ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse> handleValidation(MethodArgumentNotValidException ex) {
-        String message = ex.getBindingResult().getFieldErrors().stream()
+        return validationError(ex.getBindingResult());
+    }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ApiResponse> handleParameterValidation(HandlerMethodValidationException ex) {
+        String message = ex.getParameterValidationResults().stream()
+                .filter(result -> !result.getResolvableErrors().isEmpty())
                 .findFirst()
-                .map(error -> error.getField() + " " + error.getDefaultMessage())
+                .map(result -> result.getMethodParameter().getParameterName() + " "
+                        + result.getResolvableErrors().get(0).getDefaultMessage())
                 .orElse("Datos invalidos");
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(message));
     }
 
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResponse> handleReactiveValidation(WebExchangeBindException ex) {
+        return validationError(ex.getBindingResult());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse> handleUnexpected(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse("Error inesperado, intente nuevamente"));
     }
+
+    private ResponseEntity<ApiResponse> validationError(BindingResult bindingResult) {
+        String message = bindingResult.getFieldErrors().stream()
+                .findFirst()
+                .map(error -> error.getField() + " " + error.getDefaultMessage())
+                .orElse("Datos invalidos");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse(message));
+    }
 }
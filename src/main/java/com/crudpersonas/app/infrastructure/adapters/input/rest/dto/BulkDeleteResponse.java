@@ -0,0 +1,22 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest.dto;
+
+import java.util.List;
+
+public class BulkDeleteResponse {
+
+    private final int deleted;
+    private final List<Long> notFound;
+
+    public BulkDeleteResponse(int deleted, List<Long> notFound) {
+        this.deleted = deleted;
+        this.notFound = notFound;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public List<Long> getNotFound() {
+        return notFound;
+    }
+}
@@ -0,0 +1,34 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest.dto;
+
+import java.util.List;
+
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String next;
+
+    public CursorPageResponse(List<T> content, int size, boolean hasNext, String next) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.next = next;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public String getNext() {
+        return next;
+    }
+}
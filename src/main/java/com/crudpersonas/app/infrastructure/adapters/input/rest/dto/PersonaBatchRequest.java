@@ -0,0 +1,22 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class PersonaBatchRequest {
+
+    @NotEmpty(message = "la lista de personas es obligatoria")
+    @Size(max = 50000, message = "el lote no puede superar 50000 personas")
+    private List<@Valid PersonaRequest> personas;
+
+    public List<PersonaRequest> getPersonas() {
+        return personas;
+    }
+
+    public void setPersonas(List<PersonaRequest> personas) {
+        this.personas = personas;
+    }
+}
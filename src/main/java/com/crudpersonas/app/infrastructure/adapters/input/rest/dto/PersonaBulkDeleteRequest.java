@@ -0,0 +1,22 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class PersonaBulkDeleteRequest {
+
+    @NotEmpty(message = "la lista de ids es obligatoria")
+    @Size(max = 100000, message = "no se pueden eliminar mas de 100000 personas por solicitud")
+    private List<@NotNull(message = "los ids no pueden ser nulos") Long> ids;
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,41 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest.dto;
+
+import com.crudpersonas.app.domain.model.Persona;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Every column is NOT NULL, so a null here is a field the request left out of fields=
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PersonaFieldsResponse {
+
+    private final Long id;
+    private final String nombre;
+    private final String email;
+    private final Long version;
+
+    private PersonaFieldsResponse(Long id, String nombre, String email, Long version) {
+        this.id = id;
+        this.nombre = nombre;
+        this.email = email;
+        this.version = version;
+    }
+
+    public static PersonaFieldsResponse from(Persona persona) {
+        return new PersonaFieldsResponse(persona.getId(), persona.getNombre(), persona.getEmail(), persona.getVersion());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,117 @@
+package com.crudpersonas.app.infrastructure.adapters.output;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Base for decorators of {@link PersonaRepositoryPort}: forwards every call to the wrapped port so
+ * subclasses only override the operations they change.
+ */
+public abstract class ForwardingPersonaRepositoryAdapter implements PersonaRepositoryPort {
+
+    protected final PersonaRepositoryPort delegate;
+
+    protected ForwardingPersonaRepositoryAdapter(PersonaRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<Persona> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Persona> findAll(Set<PersonaField> fields) {
+        return delegate.findAll(fields);
+    }
+
+    @Override
+    public void streamAll(Consumer<Persona> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable) {
+        return delegate.listAll(pageable);
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable) {
+        return delegate.listSlice(pageable);
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields) {
+        return delegate.listSlice(pageable, fields);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public long approximateCount() {
+        return delegate.approximateCount();
+    }
+
+    @Override
+    public List<Persona> findAfter(Long afterId, int limit) {
+        return delegate.findAfter(afterId, limit);
+    }
+
+    @Override
+    public List<Persona> search(String query, long offset, int limit) {
+        return delegate.search(query, offset, limit);
+    }
+
+    @Override
+    public Optional<Persona> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Persona save(Persona persona) {
+        return delegate.save(persona);
+    }
+
+    @Override
+    public List<Persona> saveAll(List<Persona> personas) {
+        return delegate.saveAll(personas);
+    }
+
+    @Override
+    public boolean update(Persona persona) {
+        return delegate.update(persona);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public Set<Long> deleteAllById(Collection<Long> ids) {
+        return delegate.deleteAllById(ids);
+    }
+
+    @Override
+    public String tableVersion() {
+        return delegate.tableVersion();
+    }
+}
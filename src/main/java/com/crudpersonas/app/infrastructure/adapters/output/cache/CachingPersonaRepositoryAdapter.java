@@ -0,0 +1,95 @@
+package com.crudpersonas.app.infrastructure.adapters.output.cache;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.infrastructure.adapters.output.ForwardingPersonaRepositoryAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+public class CachingPersonaRepositoryAdapter extends ForwardingPersonaRepositoryAdapter {
+
+    private final Cache<Long, Persona> cache;
+    private final LoadingCache<Boolean, Long> approximateCount;
+
+    public CachingPersonaRepositoryAdapter(PersonaRepositoryPort delegate, long maximumSize, Duration ttl,
+                                           Duration countRefresh) {
+        super(delegate);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // Readers keep the last count while a refresh runs in the background
+        this.approximateCount = Caffeine.newBuilder()
+                .refreshAfterWrite(countRefresh)
+                .build(key -> delegate.approximateCount());
+    }
+
+    public Cache<Long, Persona> getCache() {
+        return cache;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public Optional<Persona> findById(Long id) {
+        return Optional.ofNullable(cache.get(id, key -> delegate.findById(key).orElse(null)));
+    }
+
+    @Override
+    public long approximateCount() {
+        return approximateCount.get(Boolean.TRUE);
+    }
+
+    @Override
+    public Persona save(Persona persona) {
+        Persona saved = delegate.save(persona);
+        evict(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public boolean update(Persona persona) {
+        boolean updated = delegate.update(persona);
+        evict(persona.getId());
+        return updated;
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean deleted = delegate.deleteById(id);
+        evict(id);
+        return deleted;
+    }
+
+    @Override
+    public Set<Long> deleteAllById(Collection<Long> ids) {
+        Set<Long> deleted = delegate.deleteAllById(ids);
+        deleted.forEach(this::evict);
+        return deleted;
+    }
+
+    private void evict(Long id) {
+        cache.invalidate(id);
+        // A reader may reload the old row before the writing transaction commits, so evict again afterwards
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.crudpersonas.app.infrastructure.adapters.output.emailindex;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.infrastructure.adapters.output.ForwardingPersonaRepositoryAdapter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Answers negative email lookups for batch inserts from an in-memory Bloom filter so that only probable hits reach the
+ * database. Until the first {@link #rebuild()} finishes every lookup falls through to the delegate.
+ * The filter is never authoritative: emails inserted by other instances are not seen here. The unique constraint on
+ * {@code email} still rejects them, the persistence adapter reports the conflicting emails as read from the primary,
+ * and they are added here so the caller's retry and later lookups check them against the database.
+ */
+public class EmailIndexPersonaRepositoryAdapter extends ForwardingPersonaRepositoryAdapter {
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile EmailBloomFilter filter;
+    private volatile EmailBloomFilter building;
+
+    public EmailIndexPersonaRepositoryAdapter(PersonaRepositoryPort delegate, long expectedInsertions,
+                                              double falsePositiveRate) {
+        super(delegate);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public synchronized void rebuild() {
+        EmailBloomFilter next = new EmailBloomFilter(expectedInsertions, falsePositiveRate);
+        building = next;
+        try {
+            delegate.streamAll(persona -> next.put(persona.getEmail()));
+            filter = next;
+        } finally {
+            building = null;
+        }
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        List<String> candidates = emails.stream().filter(this::mightContain).toList();
+        return candidates.isEmpty() ? Set.of() : delegate.findExistingEmails(candidates);
+    }
+
+    @Override
+    public Persona save(Persona persona) {
+        Persona saved = delegate.save(persona);
+        index(saved.getEmail());
+        return saved;
+    }
+
+    @Override
+    public List<Persona> saveAll(List<Persona> personas) {
+        try {
+            List<Persona> saved = delegate.saveAll(personas);
+            saved.forEach(persona -> index(persona.getEmail()));
+            return saved;
+        } catch (DuplicateEmailException ex) {
+            ex.getEmails().forEach(this::index);
+            throw ex;
+        }
+    }
+
+    @Override
+    public boolean update(Persona persona) {
+        boolean updated = delegate.update(persona);
+        if (updated) {
+            index(persona.getEmail());
+        }
+        return updated;
+    }
+
+    private boolean mightContain(String email) {
+        EmailBloomFilter current = filter;
+        return current == null || current.mightContain(email);
+    }
+
+    private void index(String email) {
+        EmailBloomFilter current = filter;
+        if (current != null) {
+            current.put(email);
+        }
+        EmailBloomFilter pending = building;
+        if (pending != null) {
+            pending.put(email);
+        }
+    }
+}
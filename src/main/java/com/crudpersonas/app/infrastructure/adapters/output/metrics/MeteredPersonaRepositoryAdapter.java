@@ -0,0 +1,180 @@
+package com.crudpersonas.app.infrastructure.adapters.output.metrics;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import com.crudpersonas.app.infrastructure.adapters.output.ForwardingPersonaRepositoryAdapter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Times every call that reaches the database. Meters are registered once up front so the hot path
+ * only records.
+ */
+public class MeteredPersonaRepositoryAdapter extends ForwardingPersonaRepositoryAdapter {
+
+    static final String TIMER = "personas.repository";
+    static final String RESULT_SIZE = "personas.repository.result.size";
+
+    private final Timer findAllTimer;
+    private final Timer streamAllTimer;
+    private final Timer listAllTimer;
+    private final Timer listSliceTimer;
+    private final Timer countTimer;
+    private final Timer approximateCountTimer;
+    private final Timer findAfterTimer;
+    private final Timer searchTimer;
+    private final Timer findByIdTimer;
+    private final Timer saveTimer;
+    private final Timer saveAllTimer;
+    private final Timer updateTimer;
+    private final Timer findExistingEmailsTimer;
+    private final Timer deleteByIdTimer;
+    private final Timer deleteAllByIdTimer;
+    private final DistributionSummary findAllSize;
+    private final DistributionSummary listAllSize;
+    private final DistributionSummary searchSize;
+
+    public MeteredPersonaRepositoryAdapter(PersonaRepositoryPort delegate, MeterRegistry registry) {
+        super(delegate);
+        this.findAllTimer = timer(registry, "findAll");
+        this.streamAllTimer = timer(registry, "streamAll");
+        this.listAllTimer = timer(registry, "listAll");
+        this.listSliceTimer = timer(registry, "listSlice");
+        this.countTimer = timer(registry, "count");
+        this.approximateCountTimer = timer(registry, "approximateCount");
+        this.findAfterTimer = timer(registry, "findAfter");
+        this.searchTimer = timer(registry, "search");
+        this.findByIdTimer = timer(registry, "findById");
+        this.saveTimer = timer(registry, "save");
+        this.saveAllTimer = timer(registry, "saveAll");
+        this.updateTimer = timer(registry, "update");
+        this.findExistingEmailsTimer = timer(registry, "findExistingEmails");
+        this.deleteByIdTimer = timer(registry, "deleteById");
+        this.deleteAllByIdTimer = timer(registry, "deleteAllById");
+        this.findAllSize = resultSize(registry, "findAll");
+        this.listAllSize = resultSize(registry, "listAll");
+        this.searchSize = resultSize(registry, "search");
+    }
+
+    @Override
+    public List<Persona> findAll() {
+        List<Persona> result = findAllTimer.record(() -> delegate.findAll());
+        findAllSize.record(result.size());
+        return result;
+    }
+
+    @Override
+    public List<Persona> findAll(Set<PersonaField> fields) {
+        List<Persona> result = findAllTimer.record(() -> delegate.findAll(fields));
+        findAllSize.record(result.size());
+        return result;
+    }
+
+    @Override
+    public void streamAll(Consumer<Persona> consumer) {
+        streamAllTimer.record(() -> delegate.streamAll(consumer));
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable) {
+        Page<Persona> result = listAllTimer.record(() -> delegate.listAll(pageable));
+        listAllSize.record(result.getNumberOfElements());
+        return result;
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable) {
+        Slice<Persona> result = listSliceTimer.record(() -> delegate.listSlice(pageable));
+        listAllSize.record(result.getNumberOfElements());
+        return result;
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields) {
+        Slice<Persona> result = listSliceTimer.record(() -> delegate.listSlice(pageable, fields));
+        listAllSize.record(result.getNumberOfElements());
+        return result;
+    }
+
+    @Override
+    public long count() {
+        return countTimer.record(delegate::count);
+    }
+
+    @Override
+    public long approximateCount() {
+        return approximateCountTimer.record(delegate::approximateCount);
+    }
+
+    @Override
+    public List<Persona> findAfter(Long afterId, int limit) {
+        return findAfterTimer.record(() -> delegate.findAfter(afterId, limit));
+    }
+
+    @Override
+    public List<Persona> search(String query, long offset, int limit) {
+        List<Persona> result = searchTimer.record(() -> delegate.search(query, offset, limit));
+        searchSize.record(result.size());
+        return result;
+    }
+
+    @Override
+    public Optional<Persona> findById(Long id) {
+        return findByIdTimer.record(() -> delegate.findById(id));
+    }
+
+    @Override
+    public Persona save(Persona persona) {
+        return saveTimer.record(() -> delegate.save(persona));
+    }
+
+    @Override
+    public List<Persona> saveAll(List<Persona> personas) {
+        return saveAllTimer.record(() -> delegate.saveAll(personas));
+    }
+
+    @Override
+    public boolean update(Persona persona) {
+        return updateTimer.record(() -> delegate.update(persona));
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return findExistingEmailsTimer.record(() -> delegate.findExistingEmails(emails));
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return deleteByIdTimer.record(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public Set<Long> deleteAllById(Collection<Long> ids) {
+        return deleteAllByIdTimer.record(() -> delegate.deleteAllById(ids));
+    }
+
+    private static Timer timer(MeterRegistry registry, String method) {
+        return Timer.builder(TIMER)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static DistributionSummary resultSize(MeterRegistry registry, String method) {
+        return DistributionSummary.builder(RESULT_SIZE)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
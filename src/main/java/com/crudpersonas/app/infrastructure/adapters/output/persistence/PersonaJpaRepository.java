@@ -1,13 +1,85 @@
 package com.crudpersonas.app.infrastructure.adapters.output.persistence;
 
+import com.crudpersonas.app.domain.model.Persona;
 import com.crudpersonas.app.infrastructure.adapters.output.persistence.entity.PersonaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PersonaJpaRepository extends JpaRepository<PersonaEntity, Long> {
 
-    boolean existsByEmail(String email);
+    // Read-only projections: rows become Persona directly, nothing enters the persistence context
+    String SELECT_PERSONA = "select new com.crudpersonas.app.domain.model.Persona(p.id, p.nombre, p.email, p.version) "
+            + "from PersonaEntity p";
+
+    // Only takes effect with personas.l2-cache.enabled; any write to personas invalidates the whole region
+    String QUERY_CACHE_REGION = "personas-queries";
+
+    @Query(SELECT_PERSONA)
+    List<Persona> findAllPersonas(Sort sort);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    @Query(value = SELECT_PERSONA, countQuery = "select count(p) from PersonaEntity p")
+    Page<Persona> findAllPersonas(Pageable pageable);
+
+    // Fetches one row more than the page to know whether another follows; no count query
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    @Query(SELECT_PERSONA)
+    Slice<Persona> findPersonaSlice(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    @Query(SELECT_PERSONA + " where p.id > :id order by p.id")
+    List<Persona> findPersonasAfter(@Param("id") Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    @Query(SELECT_PERSONA + " where p.id = :id")
+    Optional<Persona> findPersonaById(@Param("id") Long id);
+
+    @Query("select p.email from PersonaEntity p where p.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Modifying
+    @Query("update PersonaEntity p set p.nombre = :nombre, p.email = :email, p.version = p.version + 1 where p.id = :id")
+    int updateNombreAndEmail(@Param("id") Long id, @Param("nombre") String nombre, @Param("email") String email);
+
+    @Modifying
+    @Query("update PersonaEntity p set p.nombre = :nombre, p.email = :email, p.version = p.version + 1 "
+            + "where p.id = :id and p.version = :version")
+    int updateNombreAndEmailIfVersion(@Param("id") Long id, @Param("nombre") String nombre,
+                                      @Param("email") String email, @Param("version") long version);
+
+    @Modifying
+    @Query("delete from PersonaEntity p where p.id = :id")
+    int deleteRowById(@Param("id") Long id);
+
+    // FOR UPDATE keeps the rows until commit, so no concurrent delete can remove them in between
+    @Query(value = "SELECT id FROM personas WHERE id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
 
-    boolean existsByEmailAndIdNot(String email, Long id);
+    @Modifying
+    @Query("delete from PersonaEntity p where p.id in :ids")
+    int deleteRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
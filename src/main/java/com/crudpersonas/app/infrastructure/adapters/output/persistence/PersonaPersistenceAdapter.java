@@ -3,79 +3,456 @@ package com.crudpersonas.app.infrastructure.adapters.output.persistence;
 import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
 import com.crudpersonas.app.domain.exception.DuplicateEmailException;
 import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import com.crudpersonas.app.infrastructure.adapters.output.persistence.datasource.ReplicaDataSource;
 import com.crudpersonas.app.infrastructure.adapters.output.persistence.entity.PersonaEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Component
+@Profile("!reactive")
 public class PersonaPersistenceAdapter implements PersonaRepositoryPort {
 
+    private static final Logger log = LoggerFactory.getLogger(PersonaPersistenceAdapter.class);
+
+    private static final String STREAM_ALL_SQL = "SELECT id, nombre, email, version FROM personas ORDER BY id";
+
+    // Served by the pg_trgm GIN indexes in db/postgresql/search-indexes.sql
+    private static final String SEARCH_SQL = """
+            SELECT id, nombre, email, version FROM personas
+            WHERE lower(nombre) LIKE :contains OR lower(email) LIKE :contains
+               OR lower(nombre) % :term OR lower(email) % :term
+            ORDER BY CASE WHEN lower(nombre) LIKE :prefix OR lower(email) LIKE :prefix THEN 0
+                          WHEN lower(nombre) LIKE :contains OR lower(email) LIKE :contains THEN 1
+                          ELSE 2 END,
+                     greatest(similarity(lower(nombre), :term), similarity(lower(email), :term)) DESC,
+                     id
+            LIMIT :limit OFFSET :offset""";
+
+    // Trigrams need three characters, shorter terms only match prefixes through the text_pattern_ops indexes
+    private static final String PREFIX_SEARCH_SQL = """
+            SELECT id, nombre, email, version FROM personas
+            WHERE lower(nombre) LIKE :prefix OR lower(email) LIKE :prefix
+            ORDER BY id
+            LIMIT :limit OFFSET :offset""";
+
+    // Without pg_trgm (H2, or PostgreSQL that could not create it): substring matches only, prefixes first
+    private static final String CONTAINS_SEARCH_SQL = """
+            SELECT id, nombre, email, version FROM personas
+            WHERE lower(nombre) LIKE :contains OR lower(email) LIKE :contains
+            ORDER BY CASE WHEN lower(nombre) LIKE :prefix OR lower(email) LIKE :prefix THEN 0 ELSE 1 END, id
+            LIMIT :limit OFFSET :offset""";
+
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+
+    // The planner's own estimate: tuples per page from the last ANALYZE scaled to the current table size
+    private static final String ESTIMATED_COUNT_SQL = """
+            SELECT CASE WHEN c.reltuples < 0 OR c.relpages = 0 THEN -1
+                        ELSE (c.reltuples / c.relpages
+                              * (pg_relation_size(c.oid) / current_setting('block_size')::int))::bigint END
+            FROM pg_class c WHERE c.oid = 'personas'::regclass""";
+
+    private static final RowMapper<Persona> PERSONA_ROW_MAPPER = (rs, rowNum) ->
+            new Persona(rs.getLong("id"), rs.getString("nombre"), rs.getString("email"), rs.getLong("version"));
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String TRIGRAM_EXTENSION_SQL =
+            "SELECT count(*) > 0 FROM pg_extension WHERE extname = 'pg_trgm'";
+
+    // An interrupted CREATE INDEX CONCURRENTLY leaves an invalid index that IF NOT EXISTS would keep forever
+    private static final String INVALID_SEARCH_INDEXES_SQL = """
+            SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE NOT i.indisvalid AND c.relname IN ('personas_nombre_trgm_idx', 'personas_email_trgm_idx',
+                                                     'personas_nombre_prefix_idx', 'personas_email_prefix_idx')""";
+
+    // Tables that predate the sequence (or got ids elsewhere) leave it behind max(id); pooled ids must start past it.
+    // Only moves the sequence forward, so ranges other instances already hold stay unused
+    private static final String ADVANCE_ID_SEQUENCE_SQL = """
+            SELECT setval('%1$s', m.max_id + %2$d, false)
+            FROM (SELECT max(id) AS max_id FROM personas) m, %1$s s
+            WHERE m.max_id + %2$d > CASE WHEN s.is_called THEN s.last_value + %2$d ELSE s.last_value END"""
+            .formatted(PersonaEntity.ID_SEQUENCE, PersonaEntity.ID_ALLOCATION_SIZE);
+
+    private static final String TABLE_VERSION_SQL = "SELECT version FROM personas_table_version WHERE id = 1";
+    private static final String SEED_TABLE_VERSION_SQL =
+            "INSERT INTO personas_table_version (id, version) VALUES (1, 0) ON CONFLICT DO NOTHING";
+    private static final String BUMP_TABLE_VERSION_SQL =
+            "UPDATE personas_table_version SET version = version + 1 WHERE id = 1";
+
     private final PersonaJpaRepository personaJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate separateReadOnly;
+
+    // Marks a transaction that already registered its table version bump
+    private final Object tableVersionKey = new Object();
+
+    private final boolean postgres;
+    private volatile boolean trigrams;
+    private volatile boolean idSequenceChecked;
 
-    public PersonaPersistenceAdapter(PersonaJpaRepository personaJpaRepository) {
+    public PersonaPersistenceAdapter(PersonaJpaRepository personaJpaRepository, JdbcTemplate jdbcTemplate,
+                                     EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                     @Value("${spring.datasource.url:}") String datasourceUrl) {
         this.personaJpaRepository = personaJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.entityManager = entityManager;
+        // Decided from the URL so building the repository chain never needs a connection (AOT training run)
+        this.postgres = datasourceUrl != null && datasourceUrl.startsWith("jdbc:postgresql:");
+        this.separateReadOnly = new TransactionTemplate(transactionManager);
+        this.separateReadOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.separateReadOnly.setReadOnly(true);
     }
 
     @Override
     public List<Persona> findAll() {
-        return personaJpaRepository.findAll(Sort.by(Sort.Direction.ASC, "id")).stream()
-                .map(this::toDomain)
-                .toList();
+        return personaJpaRepository.findAllPersonas(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    @Override
+    public List<Persona> findAll(Set<PersonaField> fields) {
+        return jdbcTemplate.query(selectColumns(fields) + " ORDER BY id", rowMapper(fields));
+    }
+
+    @Override
+    public void streamAll(Consumer<Persona> consumer) {
+        // Forward-only cursor: rows go straight to the consumer, fetch size comes from spring.jdbc.template.fetch-size
+        jdbcTemplate.query(STREAM_ALL_SQL, (RowCallbackHandler) rs -> consumer.accept(PERSONA_ROW_MAPPER.mapRow(rs, 0)));
     }
 
     @Override
     public Page<Persona> listAll(Pageable pageable) {
-        return personaJpaRepository
-                .findAll(pageable)         // Page<PersonaEntity>
-                .map(this::toDomain);      // Page<Persona>
+        return personaJpaRepository.findAllPersonas(pageable);
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable) {
+        return personaJpaRepository.findPersonaSlice(pageable);
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields) {
+        // Ordered by id so the pages stay stable; one extra row tells whether another page follows
+        List<Persona> rows = jdbcTemplate.query(selectColumns(fields) + " ORDER BY id LIMIT ? OFFSET ?",
+                rowMapper(fields), pageable.getPageSize() + 1, pageable.getOffset());
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public long count() {
+        return personaJpaRepository.count();
+    }
+
+    @Override
+    public long approximateCount() {
+        if (isPostgres()) {
+            Long estimate = jdbcTemplate.queryForObject(ESTIMATED_COUNT_SQL, Long.class);
+            // A table that was never analyzed has no statistics yet
+            if (estimate != null && estimate >= 0) {
+                return estimate;
+            }
+        }
+        return personaJpaRepository.count();
+    }
+
+    @Override
+    public List<Persona> findAfter(Long afterId, int limit) {
+        Long from = afterId == null ? Long.MIN_VALUE : afterId;
+        return personaJpaRepository.findPersonasAfter(from, Limit.of(limit));
+    }
+
+    @Override
+    public List<Persona> search(String query, long offset, int limit) {
+        String term = query.strip().toLowerCase(Locale.ROOT);
+        String literal = escapeLike(term);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("prefix", literal + "%")
+                .addValue("contains", "%" + literal + "%")
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        String sql = term.length() < MIN_TRIGRAM_LENGTH ? PREFIX_SEARCH_SQL
+                : trigrams ? SEARCH_SQL : CONTAINS_SEARCH_SQL;
+        return namedJdbcTemplate.query(sql, params, PERSONA_ROW_MAPPER);
     }
 
     @Override
     public Optional<Persona> findById(Long id) {
-        return personaJpaRepository.findById(id).map(this::toDomain);
+        return personaJpaRepository.findPersonaById(id);
     }
 
     @Override
     public Persona save(Persona persona) {
+        checkIdSequence();
         try {
             PersonaEntity entity = toEntity(persona);
-            PersonaEntity saved = personaJpaRepository.save(entity);
+            PersonaEntity saved = personaJpaRepository.saveAndFlush(entity);
+            recordChange();
             return toDomain(saved);
         } catch (DataIntegrityViolationException ex) {
-            throw new DuplicateEmailException(persona.getEmail());
+            throw emailConflict(ex, persona.getEmail());
         }
     }
 
     @Override
-    public boolean existsByEmail(String email) {
-        return personaJpaRepository.existsByEmail(email);
+    public List<Persona> saveAll(List<Persona> personas) {
+        checkIdSequence();
+        List<Persona> saved = new ArrayList<>(personas.size());
+        for (int from = 0; from < personas.size(); from += CHUNK_SIZE) {
+            List<Persona> chunk = personas.subList(from, Math.min(from + CHUNK_SIZE, personas.size()));
+            try {
+                // Inserts go out in JDBC batches of hibernate.jdbc.batch_size; clear keeps the context small
+                personaJpaRepository.saveAllAndFlush(chunk.stream().map(this::toEntity).toList())
+                        .forEach(entity -> saved.add(toDomain(entity)));
+                entityManager.clear();
+            } catch (DataIntegrityViolationException ex) {
+                entityManager.clear();
+                Set<String> conflicting = conflictingEmails(chunk);
+                if (conflicting.isEmpty()) {
+                    throw ex;
+                }
+                throw new DuplicateEmailException(conflicting);
+            }
+        }
+        if (!saved.isEmpty()) {
+            recordChange();
+        }
+        return saved;
     }
 
     @Override
-    public boolean existsByEmailExcludingId(String email, Long id) {
-        return personaJpaRepository.existsByEmailAndIdNot(email, id);
+    public boolean update(Persona persona) {
+        try {
+            // With a version this is a compare-and-set: no row matches once someone else has updated it
+            int rows = persona.getVersion() == null
+                    ? personaJpaRepository.updateNombreAndEmail(persona.getId(), persona.getNombre(), persona.getEmail())
+                    : personaJpaRepository.updateNombreAndEmailIfVersion(
+                            persona.getId(), persona.getNombre(), persona.getEmail(), persona.getVersion());
+            return changed(rows);
+        } catch (DataIntegrityViolationException ex) {
+            throw emailConflict(ex, persona.getEmail());
+        }
+    }
+
+    // Runs before this instance draws its first id, so its pooled ranges never overlap existing rows
+    private void checkIdSequence() {
+        if (postgres && !idSequenceChecked) {
+            jdbcTemplate.execute(ADVANCE_ID_SEQUENCE_SQL);
+            idSequenceChecked = true;
+        }
+    }
+
+    // Only the email unique constraint means the caller sent a taken email; anything else is not theirs to fix
+    private static RuntimeException emailConflict(DataIntegrityViolationException ex, String email) {
+        String constraint = ex.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName() : null;
+        return constraint != null && constraint.toLowerCase(Locale.ROOT).contains(PersonaEntity.EMAIL_CONSTRAINT)
+                ? new DuplicateEmailException(email) : ex;
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        List<String> candidates = List.copyOf(emails);
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += CHUNK_SIZE) {
+            existing.addAll(personaJpaRepository.findExistingEmails(
+                    candidates.subList(from, Math.min(from + CHUNK_SIZE, candidates.size()))));
+        }
+        return existing;
+    }
+
+    // The failed insert leaves the current transaction unusable on PostgreSQL, so the lookup runs in its own,
+    // on the primary: a lagging replica may not have the row that just conflicted yet
+    private Set<String> conflictingEmails(List<Persona> chunk) {
+        List<String> emails = chunk.stream().map(Persona::getEmail).toList();
+        Set<String> existing = ReplicaDataSource.onPrimary(
+                () -> separateReadOnly.execute(status -> findExistingEmails(emails)));
+        Set<String> seen = new HashSet<>();
+        Set<String> conflicting = new LinkedHashSet<>();
+        for (String email : emails) {
+            if (!seen.add(email) || existing.contains(email)) {
+                conflicting.add(email);
+            }
+        }
+        return conflicting;
     }
 
     @Override
-    public void deleteById(Long id) {
-        personaJpaRepository.deleteById(id);
+    public boolean deleteById(Long id) {
+        return changed(personaJpaRepository.deleteRowById(id));
+    }
+
+    @Override
+    public Set<Long> deleteAllById(Collection<Long> ids) {
+        List<Long> candidates = List.copyOf(new LinkedHashSet<>(ids));
+        Set<Long> deleted = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += CHUNK_SIZE) {
+            // Lock first so the caller learns which ids were missing; the locked rows are exactly the ones deleted
+            List<Long> existing = personaJpaRepository.lockExistingIds(
+                    candidates.subList(from, Math.min(from + CHUNK_SIZE, candidates.size())));
+            if (!existing.isEmpty()) {
+                personaJpaRepository.deleteRowsByIdIn(existing);
+                deleted.addAll(existing);
+            }
+        }
+        if (!deleted.isEmpty()) {
+            recordChange();
+        }
+        return deleted;
+    }
+
+    @Override
+    public String tableVersion() {
+        List<Long> versions = jdbcTemplate.queryForList(TABLE_VERSION_SQL, Long.class);
+        return versions.isEmpty() ? "0" : versions.get(0).toString();
+    }
+
+    private boolean changed(int rows) {
+        if (rows > 0) {
+            recordChange();
+        }
+        return rows > 0;
+    }
+
+    private void recordChange() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bumpTableVersion();
+            return;
+        }
+        // One bump per transaction, issued just before commit so the counter row is locked only briefly
+        if (TransactionSynchronizationManager.hasResource(tableVersionKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(tableVersionKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                bumpTableVersion();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(tableVersionKey);
+            }
+        });
+    }
+
+    private void bumpTableVersion() {
+        if (jdbcTemplate.update(BUMP_TABLE_VERSION_SQL) == 0) {
+            jdbcTemplate.update(SEED_TABLE_VERSION_SQL);
+            jdbcTemplate.update(BUMP_TABLE_VERSION_SQL);
+        }
     }
 
-    private Persona toDomain(PersonaEntity entity) {
-        return new Persona(entity.getId(), entity.getNombre(), entity.getEmail());
+    public boolean isPostgres() {
+        return postgres;
+    }
+
+    /**
+     * Drops search indexes left invalid by an interrupted concurrent build, so the next
+     * {@code search-indexes.sql} run creates them again. Must run outside a transaction.
+     */
+    public void dropInvalidSearchIndexes() {
+        for (String index : jdbcTemplate.queryForList(INVALID_SEARCH_INDEXES_SQL, String.class)) {
+            log.warn("Dropping invalid search index {}", index);
+            // The name comes from the fixed list in the query above
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index);
+        }
+    }
+
+    /**
+     * Switches {@link #search} to the similarity query once pg_trgm is installed; until then, and whenever
+     * the extension is missing, it answers with plain substring matches.
+     */
+    public void detectTrigramSupport() {
+        trigrams = postgres && Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRIGRAM_EXTENSION_SQL, Boolean.class));
+        if (postgres && !trigrams) {
+            log.warn("pg_trgm is not installed, search falls back to substring matches");
+        }
     }
 
-    private PersonaEntity toEntity(Persona persona) {
+    // Column names come from the enum, never from the request, so the concatenation is safe
+    private static String selectColumns(Set<PersonaField> fields) {
+        return fields.stream()
+                .sorted()
+                .map(PersonaPersistenceAdapter::column)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM personas"));
+    }
+
+    private static String column(PersonaField field) {
+        return switch (field) {
+            case ID -> "id";
+            case NOMBRE -> "nombre";
+            case EMAIL -> "email";
+            case VERSION -> "version";
+        };
+    }
+
+    private static RowMapper<Persona> rowMapper(Set<PersonaField> fields) {
+        boolean id = fields.contains(PersonaField.ID);
+        boolean nombre = fields.contains(PersonaField.NOMBRE);
+        boolean email = fields.contains(PersonaField.EMAIL);
+        boolean version = fields.contains(PersonaField.VERSION);
+        return (rs, rowNum) -> new Persona(
+                id ? rs.getLong("id") : null,
+                nombre ? rs.getString("nombre") : null,
+                email ? rs.getString("email") : null,
+                version ? rs.getLong("version") : null);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    Persona toDomain(PersonaEntity entity) {
+        return new Persona(entity.getId(), entity.getNombre(), entity.getEmail(), entity.getVersion());
+    }
+
+    PersonaEntity toEntity(Persona persona) {
         PersonaEntity entity = new PersonaEntity();
         entity.setId(persona.getId());
         entity.setNombre(persona.getNombre());
         entity.setEmail(persona.getEmail());
+        if (persona.getVersion() != null) {
+            entity.setVersion(persona.getVersion());
+        }
         return entity;
     }
 }
@@ -0,0 +1,65 @@
+package com.crudpersonas.app.infrastructure.adapters.output.persistence.datasource;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import com.crudpersonas.app.infrastructure.adapters.output.ForwardingPersonaRepositoryAdapter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keeps reads on the primary when their result is cached by id or answered under the table version
+ * ETag: a replica that lags behind the commit would otherwise pin an old row in the cache for its whole
+ * TTL, or pair old rows with the new version. Streaming, cursor pages and search still use the replicas.
+ */
+public class PrimaryReadsPersonaRepositoryAdapter extends ForwardingPersonaRepositoryAdapter {
+
+    public PrimaryReadsPersonaRepositoryAdapter(PersonaRepositoryPort delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public List<Persona> findAll() {
+        return ReplicaDataSource.onPrimary(delegate::findAll);
+    }
+
+    @Override
+    public List<Persona> findAll(Set<PersonaField> fields) {
+        return ReplicaDataSource.onPrimary(() -> delegate.findAll(fields));
+    }
+
+    @Override
+    public Page<Persona> listAll(Pageable pageable) {
+        return ReplicaDataSource.onPrimary(() -> delegate.listAll(pageable));
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable) {
+        return ReplicaDataSource.onPrimary(() -> delegate.listSlice(pageable));
+    }
+
+    @Override
+    public Slice<Persona> listSlice(Pageable pageable, Set<PersonaField> fields) {
+        return ReplicaDataSource.onPrimary(() -> delegate.listSlice(pageable, fields));
+    }
+
+    @Override
+    public long count() {
+        return ReplicaDataSource.onPrimary(delegate::count);
+    }
+
+    @Override
+    public Optional<Persona> findById(Long id) {
+        return ReplicaDataSource.onPrimary(() -> delegate.findById(id));
+    }
+
+    @Override
+    public String tableVersion() {
+        return ReplicaDataSource.onPrimary(delegate::tableVersion);
+    }
+}
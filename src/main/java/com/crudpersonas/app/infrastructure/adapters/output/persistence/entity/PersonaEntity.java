@@ -5,22 +5,39 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.ColumnDefault;
 
+// The constraint keeps the name PostgreSQL gives an inline UNIQUE, so existing tables already match it
 @Entity
-@Table(name = "personas")
+@Table(name = "personas", uniqueConstraints = @UniqueConstraint(name = PersonaEntity.EMAIL_CONSTRAINT,
+        columnNames = "email"))
 public class PersonaEntity {
 
+    public static final String EMAIL_CONSTRAINT = "personas_email_key";
+    public static final String ID_SEQUENCE = "personas_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
     private String nombre;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
+    // The default lets ddl-auto add the column to tables that already hold rows
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     public Long getId() {
         return id;
     }
@@ -44,4 +61,12 @@ public class PersonaEntity {
     public void setEmail(String email) {
         this.email = email;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
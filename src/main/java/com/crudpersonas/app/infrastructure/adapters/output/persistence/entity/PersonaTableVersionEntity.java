@@ -0,0 +1,37 @@
+package com.crudpersonas.app.infrastructure.adapters.output.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Single-row counter behind the list ETags. Write transactions bump it in the same commit as the rows
+ * they change, so every instance sharing the database derives the same version.
+ */
+@Entity
+@Table(name = "personas_table_version")
+public class PersonaTableVersionEntity {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long version;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,102 @@
+package com.crudpersonas.app.infrastructure.adapters.output.r2dbc;
+
+import com.crudpersonas.app.application.ports.output.ReactivePersonaRepositoryPort;
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.model.Persona;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+public class PersonaR2dbcAdapter implements ReactivePersonaRepositoryPort {
+
+    // Same sequence the JPA adapter allocates from, so ids stay unique across both stacks
+    private static final String NEXT_ID_SQL = "SELECT nextval('personas_seq') AS id";
+
+    private final DatabaseClient databaseClient;
+
+    public PersonaR2dbcAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<Persona> findAll() {
+        return databaseClient.sql("SELECT id, nombre, email, version FROM personas ORDER BY id")
+                .map(this::toDomain)
+                .all();
+    }
+
+    @Override
+    public Flux<Persona> findAfter(Long afterId, int limit) {
+        return databaseClient.sql("SELECT id, nombre, email, version FROM personas WHERE id > :afterId ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId == null ? Long.MIN_VALUE : afterId)
+                .bind("limit", limit)
+                .map(this::toDomain)
+                .all();
+    }
+
+    @Override
+    public Mono<Persona> findById(Long id) {
+        return databaseClient.sql("SELECT id, nombre, email, version FROM personas WHERE id = :id")
+                .bind("id", id)
+                .map(this::toDomain)
+                .one();
+    }
+
+    @Override
+    public Mono<Persona> insert(Persona persona) {
+        return databaseClient.sql(NEXT_ID_SQL)
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .flatMap(id -> databaseClient.sql("INSERT INTO personas (id, nombre, email, version) VALUES (:id, :nombre, :email, 0)")
+                        .bind("id", id)
+                        .bind("nombre", persona.getNombre())
+                        .bind("email", persona.getEmail())
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(new Persona(id, persona.getNombre(), persona.getEmail(), 0L)))
+                .onErrorMap(PersonaR2dbcAdapter::isIntegrityViolation, ex -> new DuplicateEmailException(persona.getEmail()));
+    }
+
+    // returnGeneratedValues is RETURNING version on PostgreSQL, so the new version costs no extra query
+    @Override
+    public Mono<Long> update(Persona persona) {
+        String sql = "UPDATE personas SET nombre = :nombre, email = :email, version = version + 1 WHERE id = :id"
+                + (persona.getVersion() == null ? "" : " AND version = :version");
+        DatabaseClient.GenericExecuteSpec update = databaseClient.sql(sql)
+                .bind("id", persona.getId())
+                .bind("nombre", persona.getNombre())
+                .bind("email", persona.getEmail());
+        if (persona.getVersion() != null) {
+            update = update.bind("version", persona.getVersion());
+        }
+        return update.filter(statement -> statement.returnGeneratedValues("version"))
+                .map(row -> row.get("version", Long.class))
+                .one()
+                .onErrorMap(PersonaR2dbcAdapter::isIntegrityViolation, ex -> new DuplicateEmailException(persona.getEmail()));
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM personas WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    private Persona toDomain(Readable row) {
+        return new Persona(row.get("id", Long.class), row.get("nombre", String.class), row.get("email", String.class),
+                row.get("version", Long.class));
+    }
+
+    private static boolean isIntegrityViolation(Throwable ex) {
+        return ex instanceof DataIntegrityViolationException || ex instanceof R2dbcDataIntegrityViolationException;
+    }
+}
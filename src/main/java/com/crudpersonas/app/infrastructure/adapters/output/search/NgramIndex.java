@@ -0,0 +1,209 @@
+package com.crudpersonas.app.infrastructure.adapters.output.search;
+
+import com.crudpersonas.app.domain.model.Persona;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted trigram index over {@code nombre} and {@code email}. Values and each of their words are
+ * lower-cased and padded the way pg_trgm pads words (two leading blanks, one trailing), so ranking
+ * follows the PostgreSQL query: prefix matches first, then substring matches, then fuzzy matches by
+ * trigram similarity.
+ */
+class NgramIndex {
+
+    static final double SIMILARITY_THRESHOLD = 0.3;
+
+    private static final int N = 3;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::rank)
+            .thenComparing(Comparator.comparingDouble(Match::similarity).reversed())
+            .thenComparing(match -> match.persona().getId());
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Persona> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(Persona persona) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(persona.getId());
+            documents.put(persona.getId(), persona);
+            for (String gram : grams(persona)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(persona.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Persona> search(String query, long offset, int limit) {
+        String term = normalize(query);
+        lock.readLock().lock();
+        try {
+            List<Match> matches = term.length() < N ? prefixMatches(term) : trigramMatches(term);
+            return matches.stream()
+                    .sorted(RANKING)
+                    .skip(offset)
+                    .limit(limit)
+                    .map(Match::persona)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Match> prefixMatches(String term) {
+        // The leading-blank trigrams only occur at the start of a value
+        List<Match> matches = new ArrayList<>();
+        for (Long id : candidates(windows("  " + term))) {
+            Persona persona = documents.get(id);
+            if (normalize(persona.getNombre()).startsWith(term) || normalize(persona.getEmail()).startsWith(term)) {
+                matches.add(new Match(0, 1.0, persona));
+            }
+        }
+        return matches;
+    }
+
+    private List<Match> trigramMatches(String term) {
+        Set<String> queryGrams = padded(term);
+        Map<Long, Integer> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            for (Long id : postings.getOrDefault(gram, Set.of())) {
+                shared.merge(id, 1, Integer::sum);
+            }
+        }
+        // A substring hit shares every inner trigram, a fuzzy hit at least threshold * |query| of them
+        int required = (int) Math.min(Math.ceil(SIMILARITY_THRESHOLD * queryGrams.size()), windows(term).size());
+
+        List<Match> matches = new ArrayList<>();
+        shared.forEach((id, count) -> {
+            if (count < required) {
+                return;
+            }
+            Persona persona = documents.get(id);
+            String nombre = normalize(persona.getNombre());
+            String email = normalize(persona.getEmail());
+            double similarity = Math.max(similarity(queryGrams, nombre), similarity(queryGrams, email));
+            if (nombre.startsWith(term) || email.startsWith(term)) {
+                matches.add(new Match(0, similarity, persona));
+            } else if (nombre.contains(term) || email.contains(term)) {
+                matches.add(new Match(1, similarity, persona));
+            } else if (similarity >= SIMILARITY_THRESHOLD) {
+                matches.add(new Match(2, similarity, persona));
+            }
+        });
+        return matches;
+    }
+
+    private Set<Long> candidates(Set<String> grams) {
+        Set<Long> result = null;
+        for (String gram : grams) {
+            Set<Long> ids = postings.getOrDefault(gram, Set.of());
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? Set.of() : result;
+    }
+
+    private void removeDocument(Long id) {
+        Persona previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> grams(Persona persona) {
+        Set<String> grams = grams(normalize(persona.getNombre()));
+        grams.addAll(grams(normalize(persona.getEmail())));
+        return grams;
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = padded(value);
+        for (String word : WORD_SEPARATOR.split(value)) {
+            grams.addAll(padded(word));
+        }
+        return grams;
+    }
+
+    // Best of the whole value and each single word, so "lopes" still finds "maria lopez"
+    private static double similarity(Set<String> queryGrams, String value) {
+        double best = similarity(queryGrams, padded(value));
+        for (String word : WORD_SEPARATOR.split(value)) {
+            best = Math.max(best, similarity(queryGrams, padded(word)));
+        }
+        return best;
+    }
+
+    private static double similarity(Set<String> queryGrams, Set<String> valueGrams) {
+        int common = 0;
+        for (String gram : queryGrams) {
+            if (valueGrams.contains(gram)) {
+                common++;
+            }
+        }
+        return (double) common / (queryGrams.size() + valueGrams.size() - common);
+    }
+
+    private static Set<String> padded(String value) {
+        return windows("  " + value + " ");
+    }
+
+    private static Set<String> windows(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + N <= value.length(); i++) {
+            grams.add(value.substring(i, i + N));
+        }
+        return grams;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record Match(int rank, double similarity, Persona persona) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.crudpersonas.app.infrastructure.adapters.output.search;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.infrastructure.adapters.output.ForwardingPersonaRepositoryAdapter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Answers {@link #search} from an in-memory trigram index on databases without pg_trgm (H2 in
+ * development and tests). Writes going through this adapter reach the index once their transaction commits,
+ * so rolled-back rows never show up in results; until the first {@link #rebuild()} finishes, searches go to
+ * the delegate's plain substring query.
+ */
+public class NgramSearchPersonaRepositoryAdapter extends ForwardingPersonaRepositoryAdapter {
+
+    private volatile NgramIndex index;
+    private volatile NgramIndex building;
+
+    public NgramSearchPersonaRepositoryAdapter(PersonaRepositoryPort delegate) {
+        super(delegate);
+    }
+
+    public synchronized void rebuild() {
+        NgramIndex next = new NgramIndex();
+        building = next;
+        try {
+            delegate.streamAll(next::put);
+            index = next;
+        } finally {
+            building = null;
+        }
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    @Override
+    public List<Persona> search(String query, long offset, int limit) {
+        NgramIndex current = index;
+        if (current == null) {
+            return delegate.search(query, offset, limit);
+        }
+        return current.search(query, offset, limit);
+    }
+
+    @Override
+    public Persona save(Persona persona) {
+        Persona saved = delegate.save(persona);
+        afterCommit(() -> index(saved));
+        return saved;
+    }
+
+    @Override
+    public List<Persona> saveAll(List<Persona> personas) {
+        List<Persona> saved = delegate.saveAll(personas);
+        afterCommit(() -> saved.forEach(this::index));
+        return saved;
+    }
+
+    @Override
+    public boolean update(Persona persona) {
+        boolean updated = delegate.update(persona);
+        if (updated) {
+            // Reload so the index carries the version the database just assigned
+            delegate.findById(persona.getId()).ifPresent(current -> afterCommit(() -> index(current)));
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean deleted = delegate.deleteById(id);
+        if (deleted) {
+            afterCommit(() -> forEachIndex(current -> current.remove(id)));
+        }
+        return deleted;
+    }
+
+    @Override
+    public Set<Long> deleteAllById(Collection<Long> ids) {
+        Set<Long> deleted = delegate.deleteAllById(ids);
+        if (!deleted.isEmpty()) {
+            afterCommit(() -> forEachIndex(current -> deleted.forEach(current::remove)));
+        }
+        return deleted;
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private void index(Persona persona) {
+        forEachIndex(current -> current.put(persona));
+    }
+
+    private void forEachIndex(Consumer<NgramIndex> action) {
+        NgramIndex current = index;
+        if (current != null) {
+            action.accept(current);
+        }
+        NgramIndex pending = building;
+        if (pending != null) {
+            action.accept(pending);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.crudpersonas.app.infrastructure.config;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.infrastructure.adapters.output.cache.CachingPersonaRepositoryAdapter;
+import com.crudpersonas.app.infrastructure.adapters.output.emailindex.EmailIndexPersonaRepositoryAdapter;
+import com.crudpersonas.app.infrastructure.adapters.output.metrics.MeteredPersonaRepositoryAdapter;
+import com.crudpersonas.app.infrastructure.adapters.output.persistence.PersonaPersistenceAdapter;
+import com.crudpersonas.app.infrastructure.adapters.output.persistence.datasource.PrimaryReadsPersonaRepositoryAdapter;
+import com.crudpersonas.app.infrastructure.adapters.output.persistence.datasource.ReplicaDataSource;
+import com.crudpersonas.app.infrastructure.adapters.output.search.NgramSearchPersonaRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@Profile("!reactive")
+public class PersistenceConfig {
+
+    @Bean
+    public MeteredPersonaRepositoryAdapter meteredPersonaRepositoryAdapter(
+            PersonaPersistenceAdapter persistenceAdapter, MeterRegistry meterRegistry) {
+        return new MeteredPersonaRepositoryAdapter(persistenceAdapter, meterRegistry);
+    }
+
+    @Bean
+    public CachingPersonaRepositoryAdapter cachingPersonaRepositoryAdapter(
+            MeteredPersonaRepositoryAdapter meteredAdapter,
+            ObjectProvider<ReplicaDataSource> replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${personas.cache.maximum-size:10000}") long maximumSize,
+            @Value("${personas.cache.ttl:10m}") Duration ttl,
+            @Value("${personas.cache.count-refresh:30s}") Duration countRefresh) {
+        // With read replicas, whatever ends up cached or behind an ETag is read from the primary
+        PersonaRepositoryPort source = replicaDataSource.getIfAvailable() == null
+                ? meteredAdapter
+                : new PrimaryReadsPersonaRepositoryAdapter(meteredAdapter);
+        CachingPersonaRepositoryAdapter cachingAdapter =
+                new CachingPersonaRepositoryAdapter(source, maximumSize, ttl, countRefresh);
+        CaffeineCacheMetrics.monitor(meterRegistry, cachingAdapter.getCache(), "personas.byId");
+        return cachingAdapter;
+    }
+
+    @Bean
+    public PersonaRepositoryPort searchPersonaRepositoryAdapter(CachingPersonaRepositoryAdapter cachingAdapter,
+                                                                PersonaPersistenceAdapter persistenceAdapter) {
+        // PostgreSQL searches through pg_trgm indexes, any other database through the in-memory trigram index
+        return persistenceAdapter.isPostgres() ? cachingAdapter : new NgramSearchPersonaRepositoryAdapter(cachingAdapter);
+    }
+
+    @Bean
+    public EmailIndexPersonaRepositoryAdapter emailIndexPersonaRepositoryAdapter(
+            @Qualifier("searchPersonaRepositoryAdapter") PersonaRepositoryPort searchAdapter,
+            @Value("${personas.email-index.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${personas.email-index.false-positive-rate:0.01}") double falsePositiveRate) {
+        return new EmailIndexPersonaRepositoryAdapter(searchAdapter, expectedInsertions, falsePositiveRate);
+    }
+
+    @Bean
+    public ApplicationRunner emailIndexLoader(EmailIndexPersonaRepositoryAdapter emailIndex,
+                                              PlatformTransactionManager transactionManager,
+                                              AsyncTaskExecutor applicationTaskExecutor) {
+        TransactionTemplate readOnly = readOnly(transactionManager);
+        return args -> applicationTaskExecutor.execute(() -> readOnly.executeWithoutResult(status -> emailIndex.rebuild()));
+    }
+
+    @Bean
+    public ApplicationRunner searchIndexLoader(@Qualifier("searchPersonaRepositoryAdapter") PersonaRepositoryPort searchAdapter,
+                                               PersonaPersistenceAdapter persistenceAdapter,
+                                               DataSource dataSource,
+                                               PlatformTransactionManager transactionManager,
+                                               AsyncTaskExecutor applicationTaskExecutor) {
+        if (searchAdapter instanceof NgramSearchPersonaRepositoryAdapter ngramSearch) {
+            TransactionTemplate readOnly = readOnly(transactionManager);
+            return args -> applicationTaskExecutor.execute(() -> readOnly.executeWithoutResult(status -> ngramSearch.rebuild()));
+        }
+        // Missing privileges for CREATE EXTENSION only cost search speed: search then sticks to substring matches
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("db/postgresql/search-indexes.sql"));
+        populator.setContinueOnError(true);
+        return args -> applicationTaskExecutor.execute(() -> {
+            try {
+                persistenceAdapter.dropInvalidSearchIndexes();
+                populator.execute(dataSource);
+            } finally {
+                persistenceAdapter.detectTrigramSupport();
+            }
+        });
+    }
+
+    @Bean
+    @Primary
+    public PersonaRepositoryPort personaRepositoryPort(EmailIndexPersonaRepositoryAdapter emailIndex) {
+        return emailIndex;
+    }
+
+    private static TransactionTemplate readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly;
+    }
+}
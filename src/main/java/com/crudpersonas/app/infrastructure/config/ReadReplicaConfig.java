@@ -0,0 +1,84 @@
+package com.crudpersonas.app.infrastructure.config;
+
+import com.crudpersonas.app.infrastructure.adapters.output.persistence.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to the read replicas listed in {@code personas.read-replicas.urls}
+ * (comma separated, same credentials, driver and {@code spring.datasource.hikari.*} pool settings as the
+ * primary) and everything else to the primary.
+ * The lazy proxy only picks a pool once the first statement runs, after the transaction has marked the
+ * connection read-only.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnExpression("!'${personas.read-replicas.urls:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                               DataSourceProperties properties,
+                                               MeterRegistry meterRegistry,
+                                               Environment environment,
+                                               @Value("${personas.read-replicas.urls}") List<String> urls,
+                                               @Value("${personas.read-replicas.health-check-interval:5s}") Duration healthCheckInterval,
+                                               @Value("${personas.read-replicas.connection-timeout:2s}") Duration connectionTimeout) {
+        Binder binder = Binder.get(environment);
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            replicas.add(replicaPool(properties, binder, i, urls.get(i).strip(), connectionTimeout));
+        }
+        ReplicaDataSource replicaDataSource = new ReplicaDataSource(primaryDataSource, replicas, healthCheckInterval);
+        Gauge.builder("personas.datasource.replicas.healthy", replicaDataSource, ReplicaDataSource::healthyReplicas)
+                .register(meterRegistry);
+        return replicaDataSource;
+    }
+
+    static HikariDataSource replicaPool(DataSourceProperties properties, Binder binder, int index, String url,
+                                        Duration connectionTimeout) {
+        HikariDataSource replica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        // Same pool tuning as the primary; the replica-specific settings below take precedence
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica-" + index);
+        replica.setReadOnly(true);
+        // Fail over quickly instead of waiting out the default 30s for a dead replica
+        replica.setConnectionTimeout(connectionTimeout.toMillis());
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primaryDataSource);
+        routing.setReadOnlyDataSource(replicaDataSource);
+        return routing;
+    }
+}
@@ -0,0 +1,18 @@
+package com.crudpersonas.app.infrastructure.config;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    // With spring.main.lazy-initialization the decorator chains still start eagerly: they register their
+    // meters in the constructor and every request needs them, so deferring them only moves the cost
+    @Bean
+    public static LazyInitializationExcludeFilter personaChainsStayEager() {
+        return LazyInitializationExcludeFilter.forBeanTypes(PersonaUseCase.class, PersonaRepositoryPort.class);
+    }
+}
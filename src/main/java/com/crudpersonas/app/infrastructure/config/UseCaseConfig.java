@@ -0,0 +1,92 @@
+package com.crudpersonas.app.infrastructure.config;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.application.service.PersonaService;
+import com.crudpersonas.app.infrastructure.adapters.input.coalescing.CoalescingPersonaUseCase;
+import com.crudpersonas.app.infrastructure.adapters.input.coalescing.CoalescingReadFilter;
+import com.crudpersonas.app.infrastructure.adapters.input.concurrency.ConcurrencyLimitedPersonaUseCase;
+import com.crudpersonas.app.infrastructure.adapters.input.csv.PersonaCsvImporter;
+import com.crudpersonas.app.infrastructure.adapters.input.groupcommit.GroupCommitPersonaUseCase;
+import com.crudpersonas.app.infrastructure.adapters.input.metrics.MeteredPersonaUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("!reactive")
+public class UseCaseConfig {
+
+    @Bean
+    public PersonaUseCase transactionalPersonaUseCase(
+            PersonaService personaService,
+            @Value("${personas.db-concurrency.enabled:${spring.threads.virtual.enabled:false}}") boolean limitConcurrency,
+            @Value("${personas.db-concurrency.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${personas.db-concurrency.acquire-timeout:5s}") Duration acquireTimeout) {
+        if (limitConcurrency) {
+            return new ConcurrencyLimitedPersonaUseCase(personaService, maxConcurrent, acquireTimeout);
+        }
+        return personaService;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "personas.write-behind.enabled", havingValue = "true")
+    public GroupCommitPersonaUseCase groupCommitPersonaUseCase(
+            @Qualifier("transactionalPersonaUseCase") PersonaUseCase transactionalUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${personas.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${personas.write-behind.max-batch-size:500}") int maxBatchSize,
+            @Value("${personas.write-behind.commit-timeout:30s}") Duration commitTimeout) {
+        return new GroupCommitPersonaUseCase(transactionalUseCase, queueCapacity, maxBatchSize, commitTimeout,
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public PersonaUseCase personaUseCase(
+            @Qualifier("transactionalPersonaUseCase") PersonaUseCase transactionalUseCase,
+            ObjectProvider<GroupCommitPersonaUseCase> groupCommitUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${personas.coalescing.enabled:false}") boolean coalesce,
+            @Value("${personas.coalescing.join-timeout:5s}") Duration joinTimeout) {
+        PersonaUseCase useCase = groupCommitUseCase.getIfAvailable();
+        if (useCase == null) {
+            useCase = transactionalUseCase;
+        }
+        // Outside the concurrency limit, so callers sharing a read do not each hold a permit
+        if (coalesce) {
+            useCase = new CoalescingPersonaUseCase(useCase, joinTimeout, meterRegistry);
+        }
+        return new MeteredPersonaUseCase(useCase, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<CoalescingReadFilter> coalescingReadFilter(
+            PersonaUseCase personaUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${personas.coalescing.enabled:false}") boolean coalesce,
+            @Value("${personas.coalescing.join-timeout:5s}") Duration joinTimeout) {
+        FilterRegistrationBean<CoalescingReadFilter> registration =
+                new FilterRegistrationBean<>(new CoalescingReadFilter(personaUseCase, joinTimeout, meterRegistry));
+        registration.setUrlPatterns(CoalescingReadFilter.PATHS);
+        registration.setEnabled(coalesce);
+        return registration;
+    }
+
+    @Bean
+    public PersonaCsvImporter personaCsvImporter(PersonaUseCase personaUseCase,
+                                                 Validator validator,
+                                                 MeterRegistry meterRegistry,
+                                                 @Value("${personas.import.chunk-size:1000}") int chunkSize) {
+        return new PersonaCsvImporter(personaUseCase, validator, meterRegistry, chunkSize);
+    }
+}
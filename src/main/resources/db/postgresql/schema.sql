@@ -0,0 +1,12 @@
+CREATE SEQUENCE IF NOT EXISTS personas_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS personas (
+    id      bigint       NOT NULL PRIMARY KEY,
+    nombre  varchar(255) NOT NULL,
+    email   varchar(255) NOT NULL CONSTRAINT personas_email_key UNIQUE,
+    version bigint       NOT NULL DEFAULT 0
+);
+CREATE TABLE IF NOT EXISTS personas_table_version (
+    id      bigint NOT NULL PRIMARY KEY,
+    version bigint NOT NULL
+);
+INSERT INTO personas_table_version (id, version) VALUES (1, 0) ON CONFLICT DO NOTHING;
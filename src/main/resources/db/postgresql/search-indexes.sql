@@ -0,0 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS personas_nombre_trgm_idx ON personas USING gin (lower(nombre) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS personas_email_trgm_idx ON personas USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS personas_nombre_prefix_idx ON personas (lower(nombre) text_pattern_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS personas_email_prefix_idx ON personas (lower(email) text_pattern_ops);
@@ -3,7 +3,11 @@ package com.crudpersonas.app.application.service;
 import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
 import com.crudpersonas.app.domain.exception.DuplicateEmailException;
 import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.domain.exception.VersionConflictException;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.BulkDeleteResult;
 import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,16 +18,29 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +49,9 @@ class PersonaServiceTest {
     @Mock
     private PersonaRepositoryPort personaRepositoryPort;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private PersonaService personaService;
 
@@ -52,9 +72,23 @@ class PersonaServiceTest {
         assertEquals("Juan", result.get(0).getNombre());
     }
 
+    @Test
+    void getById_returnsPersona() {
+        doReturn(Optional.of(persona)).when(personaRepositoryPort).findById(1L);
+
+        assertEquals("Juan", personaService.getById(1L).getNombre());
+    }
+
+    @Test
+    void getById_throwsWhenNotFound() {
+        doReturn(Optional.empty()).when(personaRepositoryPort).findById(2L);
+
+        assertThrows(PersonaNotFoundException.class, () -> personaService.getById(2L));
+    }
+
     @Test
     void create_throwsWhenEmailDuplicate() {
-        doReturn(true).when(personaRepositoryPort).existsByEmail(persona.getEmail());
+        doThrow(new DuplicateEmailException(persona.getEmail())).when(personaRepositoryPort).save(persona);
 
         assertThrows(DuplicateEmailException.class, () -> personaService.create(persona));
     }
@@ -62,7 +96,6 @@ class PersonaServiceTest {
     @Test
     void create_savesWhenEmailUnique() {
         Persona personaSinId = new Persona(null, "Juan", "juan@example.com");
-        doReturn(false).when(personaRepositoryPort).existsByEmail(personaSinId.getEmail());
         doReturn(persona).when(personaRepositoryPort).save(any(Persona.class));
 
         Persona result = personaService.create(personaSinId);
@@ -73,44 +106,116 @@ class PersonaServiceTest {
 
     @Test
     void update_throwsWhenNotFound() {
-        doReturn(Optional.empty()).when(personaRepositoryPort).findById(99L);
+        doReturn(false).when(personaRepositoryPort).update(any(Persona.class));
 
         assertThrows(PersonaNotFoundException.class, () -> personaService.update(99L, persona));
     }
 
     @Test
     void update_throwsWhenEmailDuplicate() {
-        doReturn(Optional.of(persona)).when(personaRepositoryPort).findById(1L);
-        doReturn(true).when(personaRepositoryPort).existsByEmailExcludingId("nuevo@example.com", 1L);
+        doThrow(new DuplicateEmailException("nuevo@example.com"))
+                .when(personaRepositoryPort).update(any(Persona.class));
 
         Persona updated = new Persona(null, "Nuevo", "nuevo@example.com");
         assertThrows(DuplicateEmailException.class, () -> personaService.update(1L, updated));
     }
 
     @Test
-    void update_succeeds() {
+    void update_withStaleVersion_throwsVersionConflict() {
+        doReturn(false).when(personaRepositoryPort).update(any(Persona.class));
         doReturn(Optional.of(persona)).when(personaRepositoryPort).findById(1L);
-        doReturn(false).when(personaRepositoryPort).existsByEmailExcludingId("nuevo@example.com", 1L);
-        Persona persisted = new Persona(1L, "Nuevo", "nuevo@example.com");
-        doReturn(persisted).when(personaRepositoryPort).save(any(Persona.class));
 
-        Persona result = personaService.update(1L, persisted);
+        Persona stale = new Persona(null, "Nuevo", "nuevo@example.com", 3L);
+        assertThrows(VersionConflictException.class, () -> personaService.update(1L, stale));
+    }
+
+    @Test
+    void update_withVersion_returnsNextVersion() {
+        doReturn(true).when(personaRepositoryPort).update(any(Persona.class));
 
+        Persona result = personaService.update(1L, new Persona(null, "Nuevo", "nuevo@example.com", 3L));
+
+        assertEquals(4L, result.getVersion());
+        verify(personaRepositoryPort).update(argThat(p -> p.getId() == 1L && p.getVersion() == 3L));
+    }
+
+    @Test
+    void update_withoutVersion_returnsTheVersionItWrote() {
+        doReturn(true).when(personaRepositoryPort).update(any(Persona.class));
+        doReturn(Optional.of(new Persona(1L, "Nuevo", "nuevo@example.com", 6L))).when(personaRepositoryPort).findById(1L);
+
+        Persona result = personaService.update(1L, new Persona(null, "Nuevo", "nuevo@example.com"));
+
+        assertEquals(1L, result.getId());
         assertEquals("Nuevo", result.getNombre());
         assertEquals("nuevo@example.com", result.getEmail());
+        assertEquals(6L, result.getVersion());
+        verify(personaRepositoryPort).update(any(Persona.class));
+        verify(personaRepositoryPort).findById(1L);
+        verifyNoMoreInteractions(personaRepositoryPort);
     }
 
     @Test
     void delete_throwsWhenNotFound() {
-        doReturn(Optional.empty()).when(personaRepositoryPort).findById(1L);
+        doReturn(false).when(personaRepositoryPort).deleteById(1L);
 
         assertThrows(PersonaNotFoundException.class, () -> personaService.delete(1L));
     }
 
+    @Test
+    void deleteAll_returnsDeletedCountAndIdsThatWereNotFound() {
+        doReturn(Set.of(1L, 3L)).when(personaRepositoryPort).deleteAllById(List.of(1L, 2L, 3L, 2L));
+
+        BulkDeleteResult result = personaService.deleteAll(List.of(1L, 2L, 3L, 2L));
+
+        assertEquals(2, result.getDeleted());
+        assertEquals(List.of(2L), result.getNotFound());
+    }
+
+    @Test
+    void listAllApproximate_neverReportsFewerRowsThanThePageShows() {
+        Pageable pageable = PageRequest.of(5, 10);
+        List<Persona> fullPage = Collections.nCopies(10, persona);
+        doReturn(new SliceImpl<>(fullPage, pageable, true)).when(personaRepositoryPort).listSlice(pageable);
+        doReturn(20L).when(personaRepositoryPort).approximateCount();
+
+        Page<Persona> page = personaService.listAllApproximate(pageable);
+
+        assertEquals(61, page.getTotalElements());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void listAll_withEveryField_usesTheDefaultQuery() {
+        doReturn(List.of(persona)).when(personaRepositoryPort).findAll();
+
+        assertEquals(List.of(persona), personaService.listAll(PersonaField.ALL));
+
+        verify(personaRepositoryPort).findAll();
+        verifyNoMoreInteractions(personaRepositoryPort);
+    }
+
+    @Test
+    void listAll_paginatedWithFields_countsOnlyWhenThePageIsFull() {
+        Set<PersonaField> fields = EnumSet.of(PersonaField.ID, PersonaField.NOMBRE);
+        Pageable pageable = PageRequest.of(0, 10);
+        doReturn(new SliceImpl<>(List.of(persona), pageable, false)).when(personaRepositoryPort).listSlice(pageable, fields);
+
+        Page<Persona> partial = personaService.listAll(pageable, fields);
+
+        assertEquals(1, partial.getTotalElements());
+        verify(personaRepositoryPort, never()).count();
+
+        Pageable second = PageRequest.of(1, 1);
+        doReturn(new SliceImpl<>(List.of(persona), second, true)).when(personaRepositoryPort).listSlice(second, fields);
+        doReturn(7L).when(personaRepositoryPort).count();
+
+        assertEquals(7, personaService.listAll(second, fields).getTotalElements());
+    }
+
     @Test
     void delete_succeeds() {
-        doReturn(Optional.of(persona)).when(personaRepositoryPort).findById(1L);
-        doNothing().when(personaRepositoryPort).deleteById(1L);
+        doReturn(true).when(personaRepositoryPort).deleteById(1L);
 
         personaService.delete(1L);
 
@@ -135,4 +240,82 @@ class PersonaServiceTest {
     assertEquals(1, result.getContent().size());
     assertEquals("Juan", result.getContent().get(0).getNombre());
 }
+
+    @Test
+    void listAfter_fetchesOneExtraRowToDetectNext() {
+        Persona second = new Persona(2L, "Ana", "ana@example.com");
+        doReturn(List.of(persona, second)).when(personaRepositoryPort).findAfter(null, 2);
+
+        Slice<Persona> result = personaService.listAfter(null, 1);
+
+        assertTrue(result.hasNext());
+        assertEquals(1, result.getContent().size());
+        assertEquals(1L, result.getContent().get(0).getId());
+    }
+
+    @Test
+    void listAfter_lastSliceHasNoNext() {
+        doReturn(List.of(persona)).when(personaRepositoryPort).findAfter(0L, 11);
+
+        Slice<Persona> result = personaService.listAfter(0L, 10);
+
+        assertFalse(result.hasNext());
+        assertEquals(1, result.getContent().size());
+    }
+
+    @Test
+    void search_fetchesOneExtraRowToDetectNext() {
+        Persona second = new Persona(2L, "Juana", "juana@example.com");
+        doReturn(List.of(persona, second)).when(personaRepositoryPort).search("jua", 1L, 2);
+
+        Slice<Persona> result = personaService.search(" jua ", PageRequest.of(1, 1));
+
+        assertTrue(result.hasNext());
+        assertEquals(1, result.getContent().size());
+    }
+
+    @Test
+    void search_blankQueryReturnsEmptySlice() {
+        Slice<Persona> result = personaService.search("  ", PageRequest.of(0, 10));
+
+        assertFalse(result.hasNext());
+        assertTrue(result.getContent().isEmpty());
+        verifyNoInteractions(personaRepositoryPort);
+    }
+
+    @Test
+    void createAll_reportsExistingAndRepeatedEmailsAsDuplicates() {
+        Persona nueva = new Persona(null, "Ana", "ana@example.com");
+        Persona existente = new Persona(null, "Juan", "juan@example.com");
+        Persona repetida = new Persona(null, "Ana Dos", "ana@example.com");
+        doReturn(Set.of("juan@example.com")).when(personaRepositoryPort).findExistingEmails(anyList());
+        doReturn(List.of(new Persona(2L, "Ana", "ana@example.com")))
+                .when(personaRepositoryPort).saveAll(List.of(nueva));
+
+        List<BatchItemResult> result = personaService.createAll(List.of(nueva, existente, repetida));
+
+        assertEquals(3, result.size());
+        assertEquals(BatchItemResult.Status.CREATED, result.get(0).getStatus());
+        assertEquals(2L, result.get(0).getPersona().getId());
+        assertEquals(BatchItemResult.Status.DUPLICATE, result.get(1).getStatus());
+        assertEquals(BatchItemResult.Status.DUPLICATE, result.get(2).getStatus());
+        assertEquals(2, result.get(2).getIndex());
+    }
+
+    @Test
+    void createAll_retriesInFreshTransactionMarkingConflictsTheInsertReported() {
+        Persona nueva = new Persona(null, "Ana", "ana@example.com");
+        Persona ajena = new Persona(null, "Juan", "juan@example.com");
+        doReturn(Set.of()).when(personaRepositoryPort).findExistingEmails(anyList());
+        doThrow(new DuplicateEmailException(List.of("juan@example.com")))
+                .when(personaRepositoryPort).saveAll(List.of(nueva, ajena));
+        doReturn(List.of(new Persona(2L, "Ana", "ana@example.com")))
+                .when(personaRepositoryPort).saveAll(List.of(nueva));
+
+        List<BatchItemResult> result = personaService.createAll(List.of(nueva, ajena));
+
+        assertEquals(BatchItemResult.Status.CREATED, result.get(0).getStatus());
+        assertEquals(BatchItemResult.Status.DUPLICATE, result.get(1).getStatus());
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
 }
@@ -0,0 +1,100 @@
+package com.crudpersonas.app.application.service;
+
+import com.crudpersonas.app.application.ports.output.ReactivePersonaRepositoryPort;
+import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.domain.exception.VersionConflictException;
+import com.crudpersonas.app.domain.model.Persona;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class ReactivePersonaServiceTest {
+
+    @Mock
+    private ReactivePersonaRepositoryPort personaRepositoryPort;
+
+    @InjectMocks
+    private ReactivePersonaService personaService;
+
+    @Test
+    void listAll_streamsRows() {
+        doReturn(Flux.just(new Persona(1L, "Juan", "juan@example.com"), new Persona(2L, "Ana", "ana@example.com")))
+                .when(personaRepositoryPort).findAll();
+
+        StepVerifier.create(personaService.listAll())
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    void listAfter_fetchesOneExtraRowToDetectNext() {
+        doReturn(Flux.just(new Persona(1L, "Juan", "juan@example.com"), new Persona(2L, "Ana", "ana@example.com")))
+                .when(personaRepositoryPort).findAfter(null, 2);
+
+        StepVerifier.create(personaService.listAfter(null, 1))
+                .assertNext(slice -> {
+                    assertEquals(1, slice.getContent().size());
+                    assertTrue(slice.hasNext());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getById_errorsWhenNotFound() {
+        doReturn(Mono.empty()).when(personaRepositoryPort).findById(9L);
+
+        StepVerifier.create(personaService.getById(9L))
+                .expectError(PersonaNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void update_returnsUpdatedPersona() {
+        doReturn(Mono.just(4L)).when(personaRepositoryPort).update(any(Persona.class));
+
+        StepVerifier.create(personaService.update(1L, new Persona(null, "Ana", "ana@example.com")))
+                .expectNextMatches(persona -> persona.getId() == 1L && "Ana".equals(persona.getNombre())
+                        && persona.getVersion() == 4L)
+                .verifyComplete();
+    }
+
+    @Test
+    void update_withStaleVersionConflicts() {
+        doReturn(Mono.empty()).when(personaRepositoryPort).update(any(Persona.class));
+        doReturn(Mono.just(new Persona(1L, "Ana", "ana@example.com", 5L))).when(personaRepositoryPort).findById(1L);
+
+        StepVerifier.create(personaService.update(1L, new Persona(null, "Ana", "ana@example.com", 4L)))
+                .expectError(VersionConflictException.class)
+                .verify();
+    }
+
+    @Test
+    void update_errorsWhenNotFound() {
+        doReturn(Mono.empty()).when(personaRepositoryPort).update(any(Persona.class));
+        doReturn(Mono.empty()).when(personaRepositoryPort).findById(9L);
+
+        StepVerifier.create(personaService.update(9L, new Persona(null, "Ana", "ana@example.com", 4L)))
+                .expectError(PersonaNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void delete_errorsWhenNotFound() {
+        doReturn(Mono.just(false)).when(personaRepositoryPort).deleteById(3L);
+
+        StepVerifier.create(personaService.delete(3L))
+                .expectError(PersonaNotFoundException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,156 @@
+package com.crudpersonas.app.infrastructure.adapters.input.coalescing;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.model.Persona;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoalescingPersonaUseCaseTest {
+
+    private final PersonaUseCase delegate = mock(PersonaUseCase.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CoalescingPersonaUseCase useCase =
+            new CoalescingPersonaUseCase(delegate, Duration.ofSeconds(5), registry);
+
+    @Test
+    void concurrentIdenticalReadsShareOneCall() throws Exception {
+        when(delegate.tableVersion()).thenReturn("v1");
+        List<Persona> rows = List.of(new Persona(1L, "Juan", "juan@example.com"));
+        CountDownLatch release = blockWhileListing(rows);
+
+        CompletableFuture<List<Persona>> first = CompletableFuture.supplyAsync(useCase::listAll);
+        CompletableFuture<List<Persona>> second = CompletableFuture.supplyAsync(useCase::listAll);
+        awaitJoined("listAll", 1);
+        release.countDown();
+
+        assertSame(rows, first.get(5, TimeUnit.SECONDS));
+        assertSame(rows, second.get(5, TimeUnit.SECONDS));
+        verify(delegate, times(1)).listAll();
+    }
+
+    @Test
+    void readsAfterAWriteDoNotJoinAnEarlierCall() throws Exception {
+        when(delegate.tableVersion()).thenReturn("v1", "v2");
+        CountDownLatch release = blockWhileListing(List.of());
+
+        CompletableFuture<List<Persona>> before = CompletableFuture.supplyAsync(useCase::listAll);
+        verifyEventuallyListed(1);
+        CompletableFuture<List<Persona>> after = CompletableFuture.supplyAsync(useCase::listAll);
+        verifyEventuallyListed(2);
+        release.countDown();
+
+        before.get(5, TimeUnit.SECONDS);
+        after.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void joinedCallersReceiveTheSameException() throws Exception {
+        when(delegate.tableVersion()).thenReturn("v1");
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.listAfter(9L, 10)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("DB down");
+        });
+
+        CompletableFuture<Slice<Persona>> first = CompletableFuture.supplyAsync(() -> useCase.listAfter(9L, 10));
+        CompletableFuture<Slice<Persona>> second = CompletableFuture.supplyAsync(() -> useCase.listAfter(9L, 10));
+        awaitJoined("listAfter", 1);
+        release.countDown();
+
+        for (CompletableFuture<Slice<Persona>> call : List.of(first, second)) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        }
+        verify(delegate, times(1)).listAfter(9L, 10);
+    }
+
+    @Test
+    void joinedCallerStopsWaitingAfterJoinTimeout() throws Exception {
+        CoalescingPersonaUseCase impatient = new CoalescingPersonaUseCase(delegate, Duration.ofMillis(50), registry);
+        when(delegate.tableVersion()).thenReturn("v1");
+        CountDownLatch release = new CountDownLatch(1);
+        Slice<Persona> slow = new SliceImpl<>(List.of(new Persona(3L, "Lenta", "lenta@example.com")));
+        Slice<Persona> own = new SliceImpl<>(List.of(new Persona(3L, "Propia", "propia@example.com")));
+        when(delegate.listAfter(2L, 1)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return slow;
+        }).thenReturn(own);
+
+        CompletableFuture<Slice<Persona>> first = CompletableFuture.supplyAsync(() -> impatient.listAfter(2L, 1));
+        verify(delegate, timeout(5_000)).listAfter(2L, 1);
+
+        assertSame(own, impatient.listAfter(2L, 1));
+        release.countDown();
+        assertSame(slow, first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void getByIdGoesStraightToTheDelegate() {
+        Persona juan = new Persona(1L, "Juan", "juan@example.com");
+        when(delegate.getById(1L)).thenReturn(juan);
+
+        assertSame(juan, useCase.getById(1L));
+        verify(delegate, never()).tableVersion();
+    }
+
+    @Test
+    void getRequestLooksTheVersionUpOnce() {
+        when(delegate.tableVersion()).thenReturn("v1");
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/personas")));
+        try {
+            assertEquals("v1", useCase.tableVersion());
+            useCase.listAll();
+            assertEquals("v1", useCase.tableVersion());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        verify(delegate, times(1)).tableVersion();
+    }
+
+    private CountDownLatch blockWhileListing(List<Persona> rows) {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.listAll()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return rows;
+        });
+        return release;
+    }
+
+    private void awaitJoined(String operation, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get(CoalescingPersonaUseCase.COALESCED).tag("operation", operation).counter().count() < expected) {
+            assertTrue(System.nanoTime() < deadline, "no caller joined " + operation);
+            Thread.sleep(5);
+        }
+    }
+
+    private void verifyEventuallyListed(int calls) {
+        verify(delegate, timeout(5_000).times(calls)).listAll();
+    }
+}
@@ -0,0 +1,87 @@
+package com.crudpersonas.app.infrastructure.adapters.input.coalescing;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CoalescingReadFilterTest {
+
+    private final PersonaUseCase personaUseCase = mock(PersonaUseCase.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CoalescingReadFilter filter =
+            new CoalescingReadFilter(personaUseCase, Duration.ofSeconds(5), registry);
+
+    @Test
+    void concurrentIdenticalRequestsShareOneResponse() throws Exception {
+        when(personaUseCase.tableVersion()).thenReturn("v1");
+        AtomicInteger handled = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            handled.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) response).setHeader("ETag", "\"v1\"");
+            response.setContentType("application/json");
+            response.getOutputStream().write("[{\"id\":1}]".getBytes(StandardCharsets.UTF_8));
+        };
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> serve(chain));
+        CompletableFuture<MockHttpServletResponse> second = CompletableFuture.supplyAsync(() -> serve(chain));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get(CoalescingPersonaUseCase.COALESCED).tag("operation", "GET /api/personas/page").counter().count() < 1) {
+            assertTrue(System.nanoTime() < deadline, "no request joined");
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        List<MockHttpServletResponse> responses = List.of(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        for (MockHttpServletResponse response : responses) {
+            assertEquals(200, response.getStatus());
+            assertEquals("[{\"id\":1}]", response.getContentAsString());
+            assertEquals("\"v1\"", response.getHeader("ETag"));
+            assertEquals("application/json", response.getContentType());
+        }
+        assertEquals(1, handled.get());
+    }
+
+    @Test
+    void streamedRequestsAreNotBuffered() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/personas");
+        request.addHeader("Accept", "application/x-ndjson");
+
+        assertTrue(filter.shouldNotFilter(request));
+        assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("POST", "/api/personas")));
+    }
+
+    private MockHttpServletResponse serve(FilterChain chain) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/personas/page");
+        request.setQueryString("page=0&size=10");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,57 @@
+package com.crudpersonas.app.infrastructure.adapters.input.concurrency;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.exception.ConcurrencyLimitExceededException;
+import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.domain.model.Persona;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitedPersonaUseCaseTest {
+
+    private final PersonaUseCase delegate = mock(PersonaUseCase.class);
+
+    @Test
+    void rejectsCallsBeyondLimitAfterTimeout() throws Exception {
+        ConcurrencyLimitedPersonaUseCase useCase =
+                new ConcurrencyLimitedPersonaUseCase(delegate, 1, Duration.ofMillis(50));
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.listAll()).thenAnswer(invocation -> {
+            inside.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        CompletableFuture<List<Persona>> first = CompletableFuture.supplyAsync(useCase::listAll);
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ConcurrencyLimitExceededException.class, () -> useCase.getById(1L));
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(1, useCase.availablePermits());
+    }
+
+    @Test
+    void releasesPermitWhenDelegateThrows() {
+        ConcurrencyLimitedPersonaUseCase useCase =
+                new ConcurrencyLimitedPersonaUseCase(delegate, 2, Duration.ofMillis(50));
+        when(delegate.getById(9L)).thenThrow(new PersonaNotFoundException(9L));
+
+        assertThrows(PersonaNotFoundException.class, () -> useCase.getById(9L));
+
+        assertEquals(2, useCase.availablePermits());
+    }
+}
@@ -0,0 +1,46 @@
+package com.crudpersonas.app.infrastructure.adapters.input.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvReaderTest {
+
+    @Test
+    void next_readsQuotedFieldsAndTracksLines() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(
+                "\uFEFFnombre,email\r\n\"Perez, Juan\",juan@example.com\r\n\r\n\"Ana \"\"la\"\"\nSegunda\",ana@example.com"));
+
+        assertEquals(List.of("nombre", "email"), csv.next());
+        assertEquals(List.of("Perez, Juan", "juan@example.com"), csv.next());
+        assertEquals(2, csv.recordLine());
+        assertEquals(List.of("Ana \"la\"\nSegunda", "ana@example.com"), csv.next());
+        assertEquals(4, csv.recordLine());
+        assertNull(csv.next());
+    }
+
+    @Test
+    void next_rejectsOverlongRecordAndContinuesWithNextLine() throws IOException {
+        String longField = "x".repeat(CsvReader.MAX_RECORD_CHARS + 1);
+        CsvReader csv = new CsvReader(new StringReader(longField + ",a@example.com\nLuis,luis@example.com\n"));
+
+        CsvFormatException ex = assertThrows(CsvFormatException.class, csv::next);
+
+        assertEquals(1, ex.getLine());
+        assertEquals(List.of("Luis", "luis@example.com"), csv.next());
+    }
+
+    @Test
+    void next_reportsUnterminatedQuote() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("\"Juan,juan@example.com\n"));
+
+        assertThrows(CsvFormatException.class, csv::next);
+        assertNull(csv.next());
+    }
+}
@@ -0,0 +1,143 @@
+package com.crudpersonas.app.infrastructure.adapters.input.csv;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.exception.InvalidCsvHeaderException;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.Persona;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PersonaCsvImporterTest {
+
+    private static final ValidatorFactory VALIDATORS = Validation.buildDefaultValidatorFactory();
+
+    private final PersonaUseCase personaUseCase = mock(PersonaUseCase.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Validator validator = VALIDATORS.getValidator();
+    private final PersonaCsvImporter importer = new PersonaCsvImporter(personaUseCase, validator, registry, 2);
+
+    @AfterAll
+    static void closeValidators() {
+        VALIDATORS.close();
+    }
+
+    @Test
+    void run_commitsInChunksAndReportsRejectedRows() throws IOException {
+        when(personaUseCase.createAll(anyList())).thenAnswer(invocation -> {
+            List<Persona> chunk = invocation.getArgument(0);
+            List<BatchItemResult> results = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                Persona persona = chunk.get(i);
+                results.add(persona.getEmail().startsWith("dup")
+                        ? BatchItemResult.duplicate(i, persona.getEmail())
+                        : BatchItemResult.created(i, persona));
+            }
+            return results;
+        });
+        String csv = """
+                email,nombre
+                juan@example.com, Juan
+                no-es-email,Ana
+                dup@example.com,Luis
+                pame@example.com,Pame
+                """;
+        List<CsvImportRowError> errors = new ArrayList<>();
+
+        CsvImportSummary summary = importer.open(new StringReader(csv)).run(errors::add);
+
+        assertEquals(CsvImportSummary.Status.COMPLETED, summary.getStatus());
+        assertEquals(4, summary.getRows());
+        assertEquals(2, summary.getImported());
+        assertEquals(2, summary.getRejected());
+        assertEquals(3, errors.get(0).getLine());
+        assertEquals("email email invalido", errors.get(0).getMessage());
+        assertEquals(4, errors.get(1).getLine());
+        assertEquals(CsvImportRowError.Status.DUPLICATE, errors.get(1).getStatus());
+        verify(personaUseCase, times(2)).createAll(anyList());
+        assertEquals(2, registry.get(PersonaCsvImporter.ROWS).tag("result", "imported").counter().count());
+    }
+
+    @Test
+    void run_reportsFailureWithProgressSoFar() throws IOException {
+        when(personaUseCase.createAll(anyList())).thenThrow(new IllegalStateException("DB down"));
+
+        CsvImportSummary summary = importer.open(new StringReader("nombre,email\nJuan,juan@example.com\n"))
+                .run(error -> { });
+
+        assertEquals(CsvImportSummary.Status.FAILED, summary.getStatus());
+        assertEquals(0, summary.getImported());
+    }
+
+    @Test
+    void run_reportsRowsTheInsertRejectedAndResubmitsOnlyTheRest() throws IOException {
+        when(personaUseCase.createAll(anyList())).thenAnswer(invocation -> {
+            List<Persona> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(persona -> persona.getEmail().equals("juan@example.com"))) {
+                throw new DuplicateEmailException(List.of("juan@example.com"));
+            }
+            return List.of(BatchItemResult.created(0, chunk.get(0)));
+        });
+        List<CsvImportRowError> errors = new ArrayList<>();
+
+        CsvImportSummary summary = importer.open(new StringReader("""
+                nombre,email
+                Juan,juan@example.com
+                Ana,ana@example.com
+                """)).run(errors::add);
+
+        assertEquals(CsvImportSummary.Status.COMPLETED, summary.getStatus());
+        assertEquals(1, summary.getImported());
+        assertEquals(1, errors.size());
+        assertEquals(2, errors.get(0).getLine());
+        assertEquals(CsvImportRowError.Status.DUPLICATE, errors.get(0).getStatus());
+    }
+
+    @Test
+    void cancel_stopsBeforeTheNextChunk() throws IOException {
+        PersonaCsvImporter.CsvImport csvImport = importer.open(new StringReader("""
+                nombre,email
+                Juan,juan@example.com
+                Ana,ana@example.com
+                Luis,luis@example.com
+                Pame,pame@example.com
+                """));
+        when(personaUseCase.createAll(anyList())).thenAnswer(invocation -> {
+            csvImport.cancel();
+            List<Persona> chunk = invocation.getArgument(0);
+            List<BatchItemResult> results = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(BatchItemResult.created(i, chunk.get(i)));
+            }
+            return results;
+        });
+
+        CsvImportSummary summary = csvImport.run(error -> { });
+
+        assertEquals(CsvImportSummary.Status.CANCELLED, summary.getStatus());
+        assertEquals(2, summary.getImported());
+        verify(personaUseCase, times(1)).createAll(anyList());
+    }
+
+    @Test
+    void open_withoutRequiredColumns_throws() {
+        assertThrows(InvalidCsvHeaderException.class, () -> importer.open(new StringReader("name,mail\n")));
+    }
+}
@@ -0,0 +1,207 @@
+package com.crudpersonas.app.infrastructure.adapters.input.groupcommit;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.exception.WriteQueueFullException;
+import com.crudpersonas.app.domain.exception.WriteUnavailableException;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.Persona;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupCommitPersonaUseCaseTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final PersonaUseCase delegate = mock(PersonaUseCase.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong ids = new AtomicLong();
+    private GroupCommitPersonaUseCase useCase;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        useCase.close();
+    }
+
+    @Test
+    void queuedCreatesAreCommittedTogether() throws Exception {
+        CountDownLatch firstCommit = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.createAll(anyList())).thenAnswer(invocation -> {
+            firstCommit.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return created(invocation.getArgument(0));
+        });
+        useCase = new GroupCommitPersonaUseCase(delegate, 100, 50, TIMEOUT, registry);
+
+        CompletableFuture<Persona> blocker = useCase.submit(persona("a@example.com"));
+        assertTrue(firstCommit.await(5, TimeUnit.SECONDS));
+        List<CompletableFuture<Persona>> queued = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            queued.add(useCase.submit(persona("p" + i + "@example.com")));
+        }
+        release.countDown();
+
+        blocker.get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < queued.size(); i++) {
+            assertEquals("p" + i + "@example.com", queued.get(i).get(5, TimeUnit.SECONDS).getEmail());
+        }
+        assertEquals(2, registry.get(GroupCommitPersonaUseCase.BATCH_SIZE).summary().count());
+        assertEquals(11, registry.get(GroupCommitPersonaUseCase.BATCH_SIZE).summary().totalAmount());
+    }
+
+    @Test
+    void duplicateInsideBatchFailsOnlyThatRequest() throws Exception {
+        when(delegate.createAll(anyList())).thenAnswer(invocation -> {
+            List<Persona> personas = invocation.getArgument(0);
+            return List.of(BatchItemResult.duplicate(0, personas.get(0).getEmail()));
+        });
+        useCase = new GroupCommitPersonaUseCase(delegate, 100, 50, TIMEOUT, registry);
+
+        assertThrows(DuplicateEmailException.class, () -> useCase.create(persona("a@example.com")));
+    }
+
+    @Test
+    void raceWithCommittedRowFallsBackToSingleCreates() {
+        Persona persona = persona("a@example.com");
+        when(delegate.createAll(anyList())).thenThrow(new DuplicateEmailException("a@example.com"));
+        when(delegate.create(persona)).thenReturn(new Persona(7L, "Ana", "a@example.com"));
+        useCase = new GroupCommitPersonaUseCase(delegate, 100, 50, TIMEOUT, registry);
+
+        assertEquals(7L, useCase.create(persona).getId());
+    }
+
+    @Test
+    void fullQueueIsRejected() throws Exception {
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.createAll(anyList())).thenAnswer(invocation -> {
+            inside.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return created(invocation.getArgument(0));
+        });
+        useCase = new GroupCommitPersonaUseCase(delegate, 1, 50, TIMEOUT, registry);
+
+        CompletableFuture<Persona> inFlight = useCase.submit(persona("a@example.com"));
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Persona> queued = useCase.submit(persona("b@example.com"));
+
+        assertThrows(WriteQueueFullException.class, () -> useCase.submit(persona("c@example.com")));
+        assertEquals(1, registry.get(GroupCommitPersonaUseCase.REJECTED).counter().count());
+
+        release.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void commitFailureIsPropagatedToEveryRequest() {
+        when(delegate.createAll(anyList())).thenThrow(new IllegalStateException("db down"));
+        useCase = new GroupCommitPersonaUseCase(delegate, 100, 50, TIMEOUT, registry);
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> useCase.submit(persona("a@example.com")).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+
+    @Test
+    void createsAfterShutdownAreUnavailable() throws Exception {
+        useCase = new GroupCommitPersonaUseCase(delegate, 100, 50, TIMEOUT, registry);
+        useCase.close();
+
+        assertThrows(WriteUnavailableException.class, () -> useCase.submit(persona("a@example.com")));
+    }
+
+    @Test
+    void createGivesUpAfterCommitTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.createAll(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return created(invocation.getArgument(0));
+        });
+        useCase = new GroupCommitPersonaUseCase(delegate, 100, 50, Duration.ofMillis(50), registry);
+
+        assertThrows(WriteUnavailableException.class, () -> useCase.create(persona("a@example.com")));
+        release.countDown();
+    }
+
+    @Test
+    void createThatTimesOutWhileQueuedIsNeverWritten() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new CopyOnWriteArrayList<>();
+        when(delegate.createAll(anyList())).thenAnswer(invocation -> {
+            List<Persona> personas = invocation.getArgument(0);
+            personas.forEach(p -> written.add(p.getEmail()));
+            release.await(5, TimeUnit.SECONDS);
+            return created(personas);
+        });
+        useCase = new GroupCommitPersonaUseCase(delegate, 100, 50, Duration.ofMillis(50), registry);
+        CompletableFuture<Persona> inFlight = useCase.submit(persona("a@example.com"));
+        await(() -> assertEquals(List.of("a@example.com"), written));
+
+        assertThrows(WriteUnavailableException.class, () -> useCase.create(persona("b@example.com")));
+        release.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+        useCase.close();
+
+        assertEquals(List.of("a@example.com"), written);
+    }
+
+    @Test
+    void errorInFlusherFailsPendingAndLaterCreates() {
+        when(delegate.createAll(anyList())).thenThrow(new AssertionError("boom"));
+        useCase = new GroupCommitPersonaUseCase(delegate, 100, 50, TIMEOUT, registry);
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> useCase.submit(persona("a@example.com")).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AssertionError.class, ex.getCause());
+        await(() -> assertThrows(WriteUnavailableException.class, () -> useCase.submit(persona("b@example.com"))));
+    }
+
+    private static void await(Runnable assertion) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                assertion.run();
+                return;
+            } catch (AssertionError ex) {
+                if (System.nanoTime() > deadline) {
+                    throw ex;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private List<BatchItemResult> created(List<Persona> personas) {
+        List<BatchItemResult> results = new ArrayList<>();
+        for (int i = 0; i < personas.size(); i++) {
+            Persona p = personas.get(i);
+            results.add(BatchItemResult.created(i, new Persona(ids.incrementAndGet(), p.getNombre(), p.getEmail())));
+        }
+        return results;
+    }
+
+    private static Persona persona(String email) {
+        return new Persona(null, "Ana", email);
+    }
+}
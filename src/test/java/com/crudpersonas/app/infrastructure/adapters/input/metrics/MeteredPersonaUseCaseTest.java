@@ -0,0 +1,67 @@
+package com.crudpersonas.app.infrastructure.adapters.input.metrics;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.domain.model.Persona;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MeteredPersonaUseCaseTest {
+
+    private PersonaUseCase delegate;
+    private SimpleMeterRegistry registry;
+    private MeteredPersonaUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PersonaUseCase.class);
+        registry = new SimpleMeterRegistry();
+        useCase = new MeteredPersonaUseCase(delegate, registry);
+    }
+
+    @Test
+    void listAll_recordsTimerAndResultSize() {
+        when(delegate.listAll()).thenReturn(List.of(
+                new Persona(1L, "Juan", "juan@example.com"),
+                new Persona(2L, "Ana", "ana@example.com")));
+
+        useCase.listAll();
+
+        assertEquals(1, registry.get(MeteredPersonaUseCase.TIMER).tag("method", "listAll").timer().count());
+        assertEquals(2.0, registry.get(MeteredPersonaUseCase.RESULT_SIZE).tag("method", "listAll")
+                .summary().totalAmount());
+    }
+
+    @Test
+    void create_countsDuplicateEmailAndStillTimes() {
+        when(delegate.create(any(Persona.class))).thenThrow(new DuplicateEmailException("juan@example.com"));
+
+        Persona persona = new Persona(null, "Juan", "juan@example.com");
+        assertThrows(DuplicateEmailException.class, () -> useCase.create(persona));
+
+        assertEquals(1.0, registry.get(MeteredPersonaUseCase.ERRORS)
+                .tag("exception", "DuplicateEmailException").counter().count());
+        assertEquals(1, registry.get(MeteredPersonaUseCase.TIMER).tag("method", "create").timer().count());
+    }
+
+    @Test
+    void delete_countsNotFound() {
+        doThrow(new PersonaNotFoundException(9L)).when(delegate).delete(9L);
+
+        assertThrows(PersonaNotFoundException.class, () -> useCase.delete(9L));
+
+        assertEquals(1.0, registry.get(MeteredPersonaUseCase.ERRORS)
+                .tag("exception", "PersonaNotFoundException").counter().count());
+    }
+}
@@ -1,11 +1,21 @@
 package com.crudpersonas.app.infrastructure.adapters.input.rest;
 
 import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.exception.ConcurrencyLimitExceededException;
 import com.crudpersonas.app.domain.exception.DuplicateEmailException;
 import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.domain.exception.VersionConflictException;
+import com.crudpersonas.app.domain.exception.WriteQueueFullException;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.BulkDeleteResult;
 import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
+import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.PersonaBatchRequest;
 import com.crudpersonas.app.infrastructure.adapters.input.rest.dto.PersonaRequest;
+import com.crudpersonas.app.infrastructure.config.WebConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -13,28 +23,48 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = PersonaController.class)
-@Import(RestExceptionHandler.class)
+@Import({RestExceptionHandler.class, WebConfig.class})
 @ActiveProfiles("test")
 class PersonaControllerTest {
 
@@ -60,6 +90,97 @@ class PersonaControllerTest {
                                 .andExpect(jsonPath("$[1].email").value("ana@example.com"));
         }
 
+        @Test
+        void getAll_setsEtagFromTableVersion() throws Exception {
+                given(personaUseCase.tableVersion()).willReturn("k1-3");
+                given(personaUseCase.listAll()).willReturn(List.of(new Persona(1L, "Juan", "juan@example.com")));
+
+                mockMvc.perform(get("/api/personas"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"k1-3\""))
+                                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                                .andExpect(jsonPath("$.length()").value(1));
+        }
+
+        @Test
+        void getAll_whenEtagMatches_returnsNotModifiedWithoutLoading() throws Exception {
+                given(personaUseCase.tableVersion()).willReturn("k1-3");
+
+                mockMvc.perform(get("/api/personas").header("If-None-Match", "W/\"k1-3\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                                .andExpect(content().string(""));
+                verify(personaUseCase, never()).listAll();
+        }
+
+        @Test
+        void getAllPaginated_whenEtagMatches_returnsNotModified() throws Exception {
+                given(personaUseCase.tableVersion()).willReturn("k1-3");
+
+                mockMvc.perform(get("/api/personas/page").header("If-None-Match", "\"k1-3\""))
+                                .andExpect(status().isNotModified());
+                verify(personaUseCase, never()).listAll(any(Pageable.class));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void streamAll_writesNdjsonLines() throws Exception {
+                doAnswer(invocation -> {
+                        Consumer<Persona> consumer = invocation.getArgument(0);
+                        consumer.accept(new Persona(1L, "Juan", "juan@example.com", 0L));
+                        consumer.accept(new Persona(2L, "Ana", "ana@example.com", 3L));
+                        return null;
+                }).when(personaUseCase).streamAll(any(Consumer.class));
+
+                MvcResult result = mockMvc.perform(get("/api/personas")
+                                .accept("application/x-ndjson"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType("application/x-ndjson"))
+                                .andExpect(content().string(
+                                                "{\"id\":1,\"nombre\":\"Juan\",\"email\":\"juan@example.com\",\"version\":0}\n"
+                                                                + "{\"id\":2,\"nombre\":\"Ana\",\"email\":\"ana@example.com\",\"version\":3}\n"));
+        }
+
+        @Test
+        void getById_returnsPersona() throws Exception {
+                given(personaUseCase.getById(1L)).willReturn(new Persona(1L, "Juan", "juan@example.com", 2L));
+
+                mockMvc.perform(get("/api/personas/1"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "\"2\""))
+                                .andExpect(jsonPath("$.nombre").value("Juan"));
+        }
+
+        @Test
+        void getAll_negotiatesCborAndSmile() throws Exception {
+                given(personaUseCase.listAll()).willReturn(List.of(new Persona(1L, "Juan", "juan@example.com")));
+
+                byte[] cbor = mockMvc.perform(get("/api/personas").accept("application/cbor"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType("application/cbor"))
+                                .andReturn().getResponse().getContentAsByteArray();
+                byte[] smile = mockMvc.perform(get("/api/personas").accept("application/x-jackson-smile"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType("application/x-jackson-smile"))
+                                .andReturn().getResponse().getContentAsByteArray();
+
+                assertEquals("Juan", new CBORMapper().readTree(cbor).get(0).get("nombre").asText());
+                assertEquals("juan@example.com", new SmileMapper().readTree(smile).get(0).get("email").asText());
+        }
+
+        @Test
+        void getById_whenNotFound_returns404() throws Exception {
+                given(personaUseCase.getById(5L)).willThrow(new PersonaNotFoundException(5L));
+
+                mockMvc.perform(get("/api/personas/5"))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.message").value("Persona no encontrada con id 5"));
+        }
+
         @Test
         void create_returnsCreated() throws Exception {
                 PersonaRequest request = new PersonaRequest();
@@ -107,6 +228,46 @@ class PersonaControllerTest {
                                 .andExpect(jsonPath("$.message").exists());
         }
 
+        @Test
+        void createAll_returnsPerItemResults() throws Exception {
+                PersonaRequest juan = new PersonaRequest();
+                juan.setNombre("Juan");
+                juan.setEmail("juan@example.com");
+                PersonaRequest ana = new PersonaRequest();
+                ana.setNombre("Ana");
+                ana.setEmail("ana@example.com");
+                PersonaBatchRequest request = new PersonaBatchRequest();
+                request.setPersonas(List.of(juan, ana));
+
+                given(personaUseCase.createAll(anyList())).willReturn(List.of(
+                                BatchItemResult.created(0, new Persona(1L, "Juan", "juan@example.com")),
+                                BatchItemResult.duplicate(1, "ana@example.com")));
+
+                mockMvc.perform(post("/api/personas/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                                .andExpect(jsonPath("$[0].persona.id").value(1))
+                                .andExpect(jsonPath("$[1].status").value("DUPLICATE"))
+                                .andExpect(jsonPath("$[1].message").value("El email ya esta registrado: ana@example.com"));
+        }
+
+        @Test
+        void createAll_whenAnyItemInvalid_returnsBadRequest() throws Exception {
+                PersonaRequest invalida = new PersonaRequest();
+                invalida.setNombre("Juan");
+                invalida.setEmail("no-es-email");
+                PersonaBatchRequest request = new PersonaBatchRequest();
+                request.setPersonas(List.of(invalida));
+
+                mockMvc.perform(post("/api/personas/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("personas[0].email email invalido"));
+        }
+
         @Test
         void update_returnsOk() throws Exception {
                 PersonaRequest request = new PersonaRequest();
@@ -114,13 +275,64 @@ class PersonaControllerTest {
                 request.setEmail("ana@example.com");
 
                 given(personaUseCase.update(eq(1L), any(Persona.class)))
-                                .willReturn(new Persona(1L, "Ana", "ana@example.com"));
+                                .willReturn(new Persona(1L, "Ana", "ana@example.com", 7L));
 
                 mockMvc.perform(put("/api/personas/1")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(request)))
                                 .andExpect(status().isOk())
-                                .andExpect(jsonPath("$.nombre").value("Ana"));
+                                .andExpect(header().string("ETag", "\"7\""))
+                                .andExpect(jsonPath("$.nombre").value("Ana"))
+                                .andExpect(jsonPath("$.version").value(7));
+        }
+
+        @Test
+        void update_withIfMatch_passesVersionAndReturnsNewEtag() throws Exception {
+                PersonaRequest request = new PersonaRequest();
+                request.setNombre("Ana");
+                request.setEmail("ana@example.com");
+
+                given(personaUseCase.update(eq(1L), argThat(p -> Long.valueOf(3L).equals(p.getVersion()))))
+                                .willReturn(new Persona(1L, "Ana", "ana@example.com", 4L));
+
+                mockMvc.perform(put("/api/personas/1")
+                                .header("If-Match", "\"3\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "\"4\""))
+                                .andExpect(jsonPath("$.version").value(4));
+        }
+
+        @Test
+        void update_whenVersionConflict_returns412() throws Exception {
+                PersonaRequest request = new PersonaRequest();
+                request.setNombre("Ana");
+                request.setEmail("ana@example.com");
+
+                given(personaUseCase.update(eq(1L), any(Persona.class)))
+                                .willThrow(new VersionConflictException(1L));
+
+                mockMvc.perform(put("/api/personas/1")
+                                .header("If-Match", "\"3\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isPreconditionFailed())
+                                .andExpect(jsonPath("$.message").value("La persona con id 1 fue modificada por otra solicitud"));
+        }
+
+        @Test
+        void update_withWeakIfMatch_returns412WithoutUpdating() throws Exception {
+                PersonaRequest request = new PersonaRequest();
+                request.setNombre("Ana");
+                request.setEmail("ana@example.com");
+
+                mockMvc.perform(put("/api/personas/1")
+                                .header("If-Match", "W/\"3\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isPreconditionFailed());
+                verify(personaUseCase, never()).update(any(), any());
         }
 
         @Test
@@ -157,6 +369,27 @@ class PersonaControllerTest {
                                 .andExpect(jsonPath("$.message").value("Persona no encontrada con id 9"));
         }
 
+        @Test
+        void deleteAll_returnsDeletedCountAndMissingIds() throws Exception {
+                given(personaUseCase.deleteAll(List.of(1L, 2L, 3L))).willReturn(new BulkDeleteResult(2, List.of(2L)));
+
+                mockMvc.perform(delete("/api/personas")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"ids\":[1,2,3]}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.deleted").value(2))
+                                .andExpect(jsonPath("$.notFound[0]").value(2));
+        }
+
+        @Test
+        void deleteAll_withoutIds_returnsBadRequest() throws Exception {
+                mockMvc.perform(delete("/api/personas")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"ids\":[]}"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("ids la lista de ids es obligatoria"));
+        }
+
         @Test
         void getAll_whenUnexpectedException_returns500() throws Exception {
                 given(personaUseCase.listAll()).willThrow(new RuntimeException("DB down"));
@@ -167,6 +400,15 @@ class PersonaControllerTest {
                                                 .value("Error inesperado, intente nuevamente"));
         }
         
+        @Test
+        void getAll_whenConcurrencyLimitExceeded_returns503() throws Exception {
+                given(personaUseCase.listAll()).willThrow(new ConcurrencyLimitExceededException());
+
+                mockMvc.perform(get("/api/personas"))
+                                .andExpect(status().isServiceUnavailable())
+                                .andExpect(jsonPath("$.message").value("Servicio saturado, intente nuevamente"));
+        }
+
         @Test
         void getAllPaginated_returnsPage() throws Exception {
                 Persona persona = new Persona(1L, "Juan", "juan@example.com");
@@ -184,5 +426,158 @@ class PersonaControllerTest {
                                 .andExpect(jsonPath("$.content[0].nombre").value("Juan"))
                                 .andExpect(jsonPath("$.totalElements").value(1));
         }
-        
+
+        @Test
+        void getAllPaginated_withoutCount_returnsSlice() throws Exception {
+                PageRequest pageable = PageRequest.of(2, 10);
+                given(personaUseCase.listSlice(pageable)).willReturn(
+                                new SliceImpl<>(List.of(new Persona(21L, "Juan", "juan@example.com")), pageable, true));
+
+                mockMvc.perform(get("/api/personas/page")
+                                .param("page", "2")
+                                .param("count", "none"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].id").value(21))
+                                .andExpect(jsonPath("$.hasNext").value(true))
+                                .andExpect(jsonPath("$.totalElements").doesNotExist());
+                verify(personaUseCase, never()).listAll(any(Pageable.class));
+        }
+
+        @Test
+        void getAllPaginated_withApproximateCount_flagsTotal() throws Exception {
+                PageRequest pageable = PageRequest.of(0, 10);
+                given(personaUseCase.listAllApproximate(pageable)).willReturn(
+                                new PageImpl<>(List.of(new Persona(1L, "Juan", "juan@example.com")), pageable, 1000));
+
+                mockMvc.perform(get("/api/personas/page").param("count", "approximate"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("X-Total-Approximate", "true"))
+                                .andExpect(jsonPath("$.totalElements").value(1000));
+        }
+
+        @Test
+        void pagedEndpoints_rejectOutOfRangeSizes() throws Exception {
+                mockMvc.perform(get("/api/personas/page").param("size", "0"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value(startsWith("size ")));
+                mockMvc.perform(get("/api/personas/cursor").param("size", String.valueOf(Integer.MAX_VALUE)))
+                                .andExpect(status().isBadRequest());
+                mockMvc.perform(get("/api/personas/search").param("q", "ju").param("size", "-1"))
+                                .andExpect(status().isBadRequest());
+                mockMvc.perform(get("/api/personas/search").param("q", "ju").param("page", "-1"))
+                                .andExpect(status().isBadRequest());
+                verify(personaUseCase, never()).listAfter(any(), anyInt());
+                verify(personaUseCase, never()).search(anyString(), any(Pageable.class));
+                verify(personaUseCase, never()).listAll(any(Pageable.class));
+        }
+
+        @Test
+        void getAllPaginated_withUnknownCount_returnsBadRequest() throws Exception {
+                mockMvc.perform(get("/api/personas/page").param("count", "maybe"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message")
+                                                .value("Modo de conteo invalido: maybe, use exact, approximate o none"));
+        }
+
+        @Test
+        void getAll_withFields_returnsOnlyThoseFields() throws Exception {
+                given(personaUseCase.listAll(EnumSet.of(PersonaField.ID, PersonaField.NOMBRE)))
+                                .willReturn(List.of(new Persona(1L, "Juan", null, null)));
+
+                mockMvc.perform(get("/api/personas").param("fields", "id, nombre"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].id").value(1))
+                                .andExpect(jsonPath("$[0].nombre").value("Juan"))
+                                .andExpect(jsonPath("$[0].email").doesNotExist())
+                                .andExpect(jsonPath("$[0].version").doesNotExist());
+                verify(personaUseCase, never()).listAll();
+        }
+
+        @Test
+        void getAllPaginated_withFields_narrowsContent() throws Exception {
+                PageRequest pageable = PageRequest.of(0, 10);
+                given(personaUseCase.listSlice(pageable, EnumSet.of(PersonaField.NOMBRE))).willReturn(
+                                new SliceImpl<>(List.of(new Persona(null, "Juan", null, null)), pageable, false));
+
+                mockMvc.perform(get("/api/personas/page")
+                                .param("count", "none")
+                                .param("fields", "nombre"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].nombre").value("Juan"))
+                                .andExpect(jsonPath("$.content[0].id").doesNotExist())
+                                .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        void getAll_withUnknownField_returnsBadRequest() throws Exception {
+                mockMvc.perform(get("/api/personas").param("fields", "id,telefono"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message")
+                                                .value("Campos invalidos: id,telefono, use id, nombre, email o version"));
+                verify(personaUseCase, never()).tableVersion();
+        }
+
+        @Test
+        void getAllByCursor_returnsNextToken() throws Exception {
+                Persona persona = new Persona(7L, "Juan", "juan@example.com");
+
+                given(personaUseCase.listAfter(isNull(), eq(1)))
+                                .willReturn(new SliceImpl<>(List.of(persona), PageRequest.ofSize(1), true));
+
+                mockMvc.perform(get("/api/personas/cursor")
+                                .param("size", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].nombre").value("Juan"))
+                                .andExpect(jsonPath("$.hasNext").value(true))
+                                .andExpect(jsonPath("$.next").value("Nw"));
+        }
+
+        @Test
+        void getAllByCursor_decodesAfterToken() throws Exception {
+                given(personaUseCase.listAfter(7L, 10))
+                                .willReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(10), false));
+
+                mockMvc.perform(get("/api/personas/cursor")
+                                .param("after", "Nw"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content.length()").value(0))
+                                .andExpect(jsonPath("$.hasNext").value(false))
+                                .andExpect(jsonPath("$.next").doesNotExist());
+        }
+
+        @Test
+        void getAllByCursor_whenCursorInvalid_returnsBadRequest() throws Exception {
+                mockMvc.perform(get("/api/personas/cursor")
+                                .param("after", "no-es-cursor"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("Cursor invalido: no-es-cursor"));
+        }
+
+        @Test
+        void search_returnsSliceOfMatches() throws Exception {
+                given(personaUseCase.search("jua", PageRequest.of(0, 10)))
+                                .willReturn(new SliceImpl<>(List.of(new Persona(7L, "Juan", "juan@example.com")),
+                                                PageRequest.of(0, 10), false));
+
+                mockMvc.perform(get("/api/personas/search")
+                                .param("q", "jua"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].nombre").value("Juan"))
+                                .andExpect(jsonPath("$.page").value(0))
+                                .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        void create_whenWriteQueueFull_returnsTooManyRequests() throws Exception {
+                PersonaRequest request = new PersonaRequest();
+                request.setNombre("Ana");
+                request.setEmail("ana@example.com");
+                given(personaUseCase.create(any(Persona.class))).willThrow(new WriteQueueFullException());
+
+                mockMvc.perform(post("/api/personas")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isTooManyRequests())
+                                .andExpect(jsonPath("$.message").value("Cola de escritura llena, intente nuevamente"));
+        }
 }
@@ -0,0 +1,104 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest;
+
+import com.crudpersonas.app.application.ports.input.PersonaUseCase;
+import com.crudpersonas.app.domain.model.BatchItemResult;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.infrastructure.adapters.input.csv.PersonaCsvImporter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = PersonaImportController.class)
+@Import({RestExceptionHandler.class, PersonaImportControllerTest.ImporterConfig.class})
+@ActiveProfiles("test")
+class PersonaImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PersonaUseCase personaUseCase;
+
+    @Test
+    void importCsv_streamsRejectedRowsThenSummary() throws Exception {
+        given(personaUseCase.createAll(anyList())).willReturn(List.of(
+                BatchItemResult.created(0, new Persona(1L, "Juan", "juan@example.com"))));
+
+        MvcResult result = mockMvc.perform(post("/api/personas/import")
+                        .contentType("text/csv")
+                        .content("nombre,email\nJuan,juan@example.com\nAna,\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(
+                "{\"line\":3,\"status\":\"INVALID\",\"message\":\"email el email es obligatorio\"}", lines[0]);
+        assertTrue(lines[1].startsWith(
+                "{\"status\":\"COMPLETED\",\"rows\":2,\"imported\":1,\"rejected\":1,"));
+    }
+
+    @Test
+    void importCsvFile_acceptsMultipartUpload() throws Exception {
+        given(personaUseCase.createAll(anyList())).willReturn(List.of(
+                BatchItemResult.created(0, new Persona(1L, "Juan", "juan@example.com"))));
+        MockMultipartFile file = new MockMultipartFile("file", "personas.csv", "text/csv",
+                "nombre,email\nJuan,juan@example.com\n".getBytes(StandardCharsets.UTF_8));
+
+        MvcResult result = mockMvc.perform(multipart("/api/personas/import").file(file))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+    }
+
+    @Test
+    void importCsv_withoutHeader_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/personas/import")
+                        .contentType("text/csv")
+                        .content("Juan,juan@example.com\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("El CSV debe tener una cabecera con las columnas nombre y email"));
+    }
+
+    @TestConfiguration
+    static class ImporterConfig {
+
+        @Bean
+        PersonaCsvImporter personaCsvImporter(PersonaUseCase personaUseCase, Validator validator) {
+            return new PersonaCsvImporter(personaUseCase, validator, new SimpleMeterRegistry(), 1000);
+        }
+    }
+}
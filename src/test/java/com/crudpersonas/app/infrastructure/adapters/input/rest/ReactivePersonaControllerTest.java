@@ -0,0 +1,173 @@
+package com.crudpersonas.app.infrastructure.adapters.input.rest;
+
+import com.crudpersonas.app.application.ports.input.ReactivePersonaUseCase;
+import com.crudpersonas.app.domain.exception.PersonaNotFoundException;
+import com.crudpersonas.app.domain.exception.VersionConflictException;
+import com.crudpersonas.app.domain.model.Persona;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@WebFluxTest(controllers = ReactivePersonaController.class)
+@Import(RestExceptionHandler.class)
+@ActiveProfiles({"test", "reactive"})
+class ReactivePersonaControllerTest {
+
+        @Autowired
+        private WebTestClient webTestClient;
+
+        @MockitoBean
+        private ReactivePersonaUseCase personaUseCase;
+
+        @Test
+        void getAll_streamsNdjson() {
+                given(personaUseCase.listAll()).willReturn(Flux.just(
+                                new Persona(1L, "Juan", "juan@example.com"),
+                                new Persona(2L, "Ana", "ana@example.com")));
+
+                webTestClient.get().uri("/api/personas")
+                                .accept(MediaType.APPLICATION_NDJSON)
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBodyList(Map.class).hasSize(2);
+        }
+
+        @Test
+        void getAllByCursor_returnsPageWithOpaqueNextToken() {
+                Persona persona = new Persona(7L, "Juan", "juan@example.com");
+                given(personaUseCase.listAfter(isNull(), eq(1))).willReturn(Mono.just(
+                                new SliceImpl<>(List.of(persona), PageRequest.ofSize(1), true)));
+
+                webTestClient.get().uri("/api/personas/cursor?size=1")
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.content[0].nombre").isEqualTo("Juan")
+                                .jsonPath("$.hasNext").isEqualTo(true)
+                                .jsonPath("$.next").isEqualTo("Nw");
+        }
+
+        @Test
+        void getAllByCursor_decodesAfterToken() {
+                given(personaUseCase.listAfter(7L, 10)).willReturn(Mono.just(
+                                new SliceImpl<>(List.of(), PageRequest.ofSize(10), false)));
+
+                webTestClient.get().uri("/api/personas/cursor?after=Nw")
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.hasNext").isEqualTo(false)
+                                .jsonPath("$.next").doesNotExist();
+        }
+
+        @Test
+        void getAllByCursor_rejectsInvalidCursorAndOutOfRangeSizes() {
+                webTestClient.get().uri("/api/personas/cursor?after=no-es-cursor")
+                                .exchange()
+                                .expectStatus().isBadRequest()
+                                .expectBody().jsonPath("$.message").isEqualTo("Cursor invalido: no-es-cursor");
+                webTestClient.get().uri("/api/personas/cursor?size=0")
+                                .exchange()
+                                .expectStatus().isBadRequest();
+                webTestClient.get().uri("/api/personas/cursor?size=1001")
+                                .exchange()
+                                .expectStatus().isBadRequest();
+                verify(personaUseCase, never()).listAfter(any(), anyInt());
+        }
+
+        @Test
+        void getById_whenNotFound_returns404() {
+                given(personaUseCase.getById(9L)).willReturn(Mono.error(new PersonaNotFoundException(9L)));
+
+                webTestClient.get().uri("/api/personas/9")
+                                .exchange()
+                                .expectStatus().isNotFound()
+                                .expectBody().jsonPath("$.message").isEqualTo("Persona no encontrada con id 9");
+        }
+
+        @Test
+        void create_returnsCreated() {
+                given(personaUseCase.create(any(Persona.class)))
+                                .willReturn(Mono.just(new Persona(1L, "Juan", "juan@example.com")));
+
+                webTestClient.post().uri("/api/personas")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(Map.of("nombre", "Juan", "email", "juan@example.com"))
+                                .exchange()
+                                .expectStatus().isCreated()
+                                .expectBody().jsonPath("$.id").isEqualTo(1);
+        }
+
+        @Test
+        void create_whenValidationFails_returnsBadRequest() {
+                webTestClient.post().uri("/api/personas")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(Map.of("nombre", "Juan", "email", "no-es-email"))
+                                .exchange()
+                                .expectStatus().isBadRequest()
+                                .expectBody().jsonPath("$.message").isEqualTo("email email invalido");
+        }
+
+        @Test
+        void update_withIfMatch_isConditionalAndReturnsNewVersionAsETag() {
+                given(personaUseCase.update(eq(1L), any(Persona.class)))
+                                .willReturn(Mono.just(new Persona(1L, "Juan", "juan@example.com", 4L)));
+
+                webTestClient.put().uri("/api/personas/1")
+                                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(Map.of("nombre", "Juan", "email", "juan@example.com"))
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"4\"")
+                                .expectBody().jsonPath("$.version").isEqualTo(4);
+                verify(personaUseCase).update(eq(1L), argThat(persona -> persona.getVersion() == 3L));
+        }
+
+        @Test
+        void update_withWeakIfMatch_returnsPreconditionFailed() {
+                webTestClient.put().uri("/api/personas/1")
+                                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(Map.of("nombre", "Juan", "email", "juan@example.com"))
+                                .exchange()
+                                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+                verify(personaUseCase, never()).update(any(), any());
+        }
+
+        @Test
+        void update_withStaleVersion_returnsPreconditionFailed() {
+                given(personaUseCase.update(eq(1L), any(Persona.class)))
+                                .willReturn(Mono.error(new VersionConflictException(1L)));
+
+                webTestClient.put().uri("/api/personas/1")
+                                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(Map.of("nombre", "Juan", "email", "juan@example.com"))
+                                .exchange()
+                                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        }
+}
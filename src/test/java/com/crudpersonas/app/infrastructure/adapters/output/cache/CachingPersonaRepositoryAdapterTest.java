@@ -0,0 +1,88 @@
+package com.crudpersonas.app.infrastructure.adapters.output.cache;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.model.Persona;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingPersonaRepositoryAdapterTest {
+
+    private PersonaRepositoryPort delegate;
+    private CachingPersonaRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PersonaRepositoryPort.class);
+        adapter = new CachingPersonaRepositoryAdapter(delegate, 100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void findById_hitsDelegateOnlyOnce() {
+        Persona persona = new Persona(1L, "Juan", "juan@example.com");
+        when(delegate.findById(1L)).thenReturn(Optional.of(persona));
+
+        adapter.findById(1L);
+        Optional<Persona> second = adapter.findById(1L);
+
+        assertEquals("Juan", second.orElseThrow().getNombre());
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(1, adapter.stats().hitCount());
+        assertEquals(1, adapter.stats().missCount());
+    }
+
+    @Test
+    void approximateCount_isServedFromCache() {
+        when(delegate.approximateCount()).thenReturn(42L);
+
+        assertEquals(42L, adapter.approximateCount());
+        assertEquals(42L, adapter.approximateCount());
+
+        verify(delegate, times(1)).approximateCount();
+    }
+
+    @Test
+    void findById_doesNotCacheMissingRows() {
+        when(delegate.findById(9L)).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findById(9L).isEmpty());
+        assertTrue(adapter.findById(9L).isEmpty());
+
+        verify(delegate, times(2)).findById(9L);
+    }
+
+    @Test
+    void save_evictsCachedEntry() {
+        Persona original = new Persona(1L, "Juan", "juan@example.com");
+        Persona updated = new Persona(1L, "Juan Carlos", "juan@example.com");
+        when(delegate.findById(1L)).thenReturn(Optional.of(original), Optional.of(updated));
+        when(delegate.save(updated)).thenReturn(updated);
+
+        adapter.findById(1L);
+        adapter.save(updated);
+
+        assertEquals("Juan Carlos", adapter.findById(1L).orElseThrow().getNombre());
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void deleteById_evictsCachedEntry() {
+        Persona persona = new Persona(1L, "Juan", "juan@example.com");
+        when(delegate.findById(1L)).thenReturn(Optional.of(persona), Optional.empty());
+
+        adapter.findById(1L);
+        adapter.deleteById(1L);
+
+        assertTrue(adapter.findById(1L).isEmpty());
+        verify(delegate).deleteById(1L);
+    }
+}
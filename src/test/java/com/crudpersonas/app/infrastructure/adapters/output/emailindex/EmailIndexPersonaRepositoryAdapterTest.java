@@ -0,0 +1,100 @@
+package com.crudpersonas.app.infrastructure.adapters.output.emailindex;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.model.Persona;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailIndexPersonaRepositoryAdapterTest {
+
+    private PersonaRepositoryPort delegate;
+    private EmailIndexPersonaRepositoryAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        delegate = mock(PersonaRepositoryPort.class);
+        doAnswer(invocation -> {
+            Consumer<Persona> consumer = invocation.getArgument(0);
+            consumer.accept(new Persona(1L, "Juan", "juan@example.com"));
+            return null;
+        }).when(delegate).streamAll(any(Consumer.class));
+        adapter = new EmailIndexPersonaRepositoryAdapter(delegate, 1000, 0.001);
+    }
+
+    @Test
+    void beforeRebuild_everyLookupFallsThrough() {
+        when(delegate.findExistingEmails(List.of("ana@example.com"))).thenReturn(Set.of());
+
+        assertFalse(adapter.isReady());
+        assertTrue(adapter.findExistingEmails(List.of("ana@example.com")).isEmpty());
+        verify(delegate).findExistingEmails(List.of("ana@example.com"));
+    }
+
+    @Test
+    void findExistingEmails_unknownEmailsSkipDatabase() {
+        adapter.rebuild();
+
+        assertTrue(adapter.findExistingEmails(List.of("ana@example.com")).isEmpty());
+        verify(delegate, never()).findExistingEmails(any());
+    }
+
+    @Test
+    void findExistingEmails_matchesIgnoringCase() {
+        adapter.rebuild();
+        when(delegate.findExistingEmails(List.of("JUAN@example.com"))).thenReturn(Set.of());
+
+        assertTrue(adapter.findExistingEmails(List.of("JUAN@example.com")).isEmpty());
+        verify(delegate).findExistingEmails(List.of("JUAN@example.com"));
+    }
+
+    @Test
+    void save_addsEmailToIndex() {
+        adapter.rebuild();
+        Persona saved = new Persona(2L, "Ana", "ana@example.com");
+        when(delegate.save(any(Persona.class))).thenReturn(saved);
+        when(delegate.findExistingEmails(List.of("ana@example.com"))).thenReturn(Set.of("ana@example.com"));
+
+        adapter.save(new Persona(null, "Ana", "ana@example.com"));
+
+        assertEquals(Set.of("ana@example.com"), adapter.findExistingEmails(List.of("ana@example.com")));
+    }
+
+    @Test
+    void findExistingEmails_onlyQueriesProbableHits() {
+        adapter.rebuild();
+        when(delegate.findExistingEmails(List.of("juan@example.com"))).thenReturn(Set.of("juan@example.com"));
+
+        Set<String> result = adapter.findExistingEmails(List.of("juan@example.com", "ana@example.com"));
+
+        assertEquals(Set.of("juan@example.com"), result);
+    }
+
+    @Test
+    void saveAll_indexesConflictsTheDatabaseReported() {
+        adapter.rebuild();
+        List<Persona> batch = List.of(new Persona(null, "Ana", "ana@example.com"));
+        when(delegate.saveAll(batch)).thenThrow(new DuplicateEmailException(List.of("ana@example.com")));
+        when(delegate.findExistingEmails(List.of("ana@example.com"))).thenReturn(Set.of("ana@example.com"));
+
+        assertThrows(DuplicateEmailException.class, () -> adapter.saveAll(batch));
+
+        assertEquals(Set.of("ana@example.com"), adapter.findExistingEmails(List.of("ana@example.com")));
+    }
+}
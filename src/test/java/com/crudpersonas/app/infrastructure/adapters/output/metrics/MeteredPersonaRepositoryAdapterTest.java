@@ -0,0 +1,44 @@
+package com.crudpersonas.app.infrastructure.adapters.output.metrics;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.model.Persona;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MeteredPersonaRepositoryAdapterTest {
+
+    private final PersonaRepositoryPort delegate = mock(PersonaRepositoryPort.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MeteredPersonaRepositoryAdapter adapter = new MeteredPersonaRepositoryAdapter(delegate, registry);
+
+    @Test
+    void findById_isTimed() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(new Persona(1L, "Juan", "juan@example.com")));
+
+        adapter.findById(1L);
+
+        assertEquals(1, registry.get(MeteredPersonaRepositoryAdapter.TIMER).tag("method", "findById")
+                .timer().count());
+    }
+
+    @Test
+    void listAll_recordsPageSize() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(delegate.listAll(pageable)).thenReturn(
+                new PageImpl<>(List.of(new Persona(1L, "Juan", "juan@example.com")), pageable, 30));
+
+        adapter.listAll(pageable);
+
+        assertEquals(1.0, registry.get(MeteredPersonaRepositoryAdapter.RESULT_SIZE).tag("method", "listAll")
+                .summary().totalAmount());
+    }
+}
@@ -2,31 +2,64 @@ package com.crudpersonas.app.infrastructure.adapters.output.persistence;
 
 import com.crudpersonas.app.domain.exception.DuplicateEmailException;
 import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.domain.model.PersonaField;
 import com.crudpersonas.app.infrastructure.adapters.output.persistence.entity.PersonaEntity;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.MockitoAnnotations;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.*;
 
 class PersonaPersistenceAdapterTest {
     @Mock
     private PersonaJpaRepository personaJpaRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private PersonaPersistenceAdapter adapter;
 
@@ -36,7 +69,7 @@ class PersonaPersistenceAdapterTest {
 
     @Test
     void findById_notFound() {
-        when(personaJpaRepository.findById(99L)).thenReturn(Optional.empty());
+        when(personaJpaRepository.findPersonaById(99L)).thenReturn(Optional.empty());
 
         Optional<Persona> result = adapter.findById(99L);
 
@@ -44,27 +77,66 @@ class PersonaPersistenceAdapterTest {
     }
 
     @Test
-    void existsByEmail_true() {
-        when(personaJpaRepository.existsByEmail("ana@example.com")).thenReturn(true);
+    void update_returnsTrueWhenRowMatched() {
+        when(personaJpaRepository.updateNombreAndEmail(1L, "Ana", "ana@example.com")).thenReturn(1);
+
+        assertTrue(adapter.update(new Persona(1L, "Ana", "ana@example.com")));
+    }
+
+    @Test
+    void update_returnsFalseWhenNoRowMatched() {
+        when(personaJpaRepository.updateNombreAndEmail(9L, "Ana", "ana@example.com")).thenReturn(0);
+
+        assertFalse(adapter.update(new Persona(9L, "Ana", "ana@example.com")));
+    }
+
+    @Test
+    void update_withVersionIsConditional() {
+        when(personaJpaRepository.updateNombreAndEmailIfVersion(1L, "Ana", "ana@example.com", 3L)).thenReturn(0);
 
-        assertTrue(adapter.existsByEmail("ana@example.com"));
+        assertFalse(adapter.update(new Persona(1L, "Ana", "ana@example.com", 3L)));
+        verify(personaJpaRepository, never()).updateNombreAndEmail(anyLong(), anyString(), anyString());
     }
 
     @Test
-    void existsByEmail_false() {
-        when(personaJpaRepository.existsByEmail("ana@example.com")).thenReturn(false);
+    void update_whenDataIntegrityViolation_throwsDuplicateEmailException() {
+        when(personaJpaRepository.updateNombreAndEmail(1L, "Ana", "ana@example.com"))
+                .thenThrow(violationOf(PersonaEntity.EMAIL_CONSTRAINT));
 
-        assertFalse(adapter.existsByEmail("ana@example.com"));
+        Persona persona = new Persona(1L, "Ana", "ana@example.com");
+        assertThrows(DuplicateEmailException.class, () -> adapter.update(persona));
     }
 
     @Test
-    void deleteById_callsRepository() {
-        doNothing().when(personaJpaRepository).deleteById(1L);
+    void deleteById_reportsWhetherRowWasDeleted() {
+        when(personaJpaRepository.deleteRowById(1L)).thenReturn(1);
+        when(personaJpaRepository.deleteRowById(2L)).thenReturn(0);
+
+        assertTrue(adapter.deleteById(1L));
+        assertFalse(adapter.deleteById(2L));
+        verify(personaJpaRepository).deleteRowById(1L);
+    }
+    @Test
+    void tableVersion_bumpsOnlyWhenRowsChange() {
+        when(personaJpaRepository.deleteRowById(1L)).thenReturn(1);
+        when(personaJpaRepository.deleteRowById(2L)).thenReturn(0);
+        when(jdbcTemplate.update(startsWith("UPDATE personas_table_version"))).thenReturn(1);
+
+        adapter.deleteById(2L);
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE personas_table_version"));
 
         adapter.deleteById(1L);
+        verify(jdbcTemplate).update(startsWith("UPDATE personas_table_version"));
+    }
+
+    @Test
+    void tableVersion_readsCounterRow() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class))).thenReturn(List.of(7L), List.of());
 
-        verify(personaJpaRepository).deleteById(1L);
+        assertEquals("7", adapter.tableVersion());
+        assertEquals("0", adapter.tableVersion());
     }
+
     @Test
     void save_persistsPersonaAndMapsToDomain() {
         Persona persona = new Persona(1L, "Juan", "juan@example.com");
@@ -74,69 +146,75 @@ class PersonaPersistenceAdapterTest {
         savedEntity.setNombre("Juan");
         savedEntity.setEmail("juan@example.com");
 
-        when(personaJpaRepository.save(any(PersonaEntity.class))).thenReturn(savedEntity);
+        when(personaJpaRepository.saveAndFlush(any(PersonaEntity.class))).thenReturn(savedEntity);
 
         Persona result = adapter.save(persona);
 
         assertEquals(1L, result.getId());
         assertEquals("Juan", result.getNombre());
         assertEquals("juan@example.com", result.getEmail());
-        verify(personaJpaRepository).save(any(PersonaEntity.class));
+        verify(personaJpaRepository).saveAndFlush(any(PersonaEntity.class));
     }
 
     @Test
     void save_whenDataIntegrityViolation_throwsDuplicateEmailException() {
         Persona persona = new Persona(null, "Juan", "juan@example.com");
 
-        when(personaJpaRepository.save(any(PersonaEntity.class)))
-                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(personaJpaRepository.saveAndFlush(any(PersonaEntity.class)))
+                .thenThrow(violationOf(PersonaEntity.EMAIL_CONSTRAINT));
 
         assertThrows(DuplicateEmailException.class, () -> adapter.save(persona));
-        verify(personaJpaRepository).save(any(PersonaEntity.class));
+        verify(personaJpaRepository).saveAndFlush(any(PersonaEntity.class));
     }
 
     @Test
-    void findAll_returnsSortedAndMappedList() {
-        PersonaEntity e1 = new PersonaEntity();
-        e1.setId(1L);
-        e1.setNombre("Juan");
-        e1.setEmail("juan@example.com");
+    void save_whenOtherConstraintIsViolated_rethrows() {
+        DataIntegrityViolationException violation = violationOf("personas_pkey");
+        when(personaJpaRepository.saveAndFlush(any(PersonaEntity.class))).thenThrow(violation);
 
-        PersonaEntity e2 = new PersonaEntity();
-        e2.setId(2L);
-        e2.setNombre("Ana");
-        e2.setEmail("ana@example.com");
+        Persona persona = new Persona(null, "Juan", "juan@example.com");
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> adapter.save(persona)));
+    }
 
-        when(personaJpaRepository.findAll(any(Sort.class))).thenReturn(List.of(e1, e2));
+    @Test
+    void save_onPostgresAdvancesIdSequenceOnceBeforeFirstInsert() {
+        PersonaPersistenceAdapter postgres = new PersonaPersistenceAdapter(personaJpaRepository, jdbcTemplate,
+                entityManager, transactionManager, "jdbc:postgresql://db/personas");
+        when(personaJpaRepository.saveAndFlush(any(PersonaEntity.class))).thenAnswer(invocation -> {
+            PersonaEntity entity = invocation.getArgument(0);
+            entity.setId(51L);
+            return entity;
+        });
+
+        postgres.save(new Persona(null, "Juan", "juan@example.com"));
+        postgres.save(new Persona(null, "Ana", "ana@example.com"));
+
+        InOrder order = inOrder(jdbcTemplate, personaJpaRepository);
+        order.verify(jdbcTemplate).execute(contains("setval('personas_seq'"));
+        order.verify(personaJpaRepository).saveAndFlush(any(PersonaEntity.class));
+        verify(jdbcTemplate, times(1)).execute(contains("setval"));
+    }
+
+    @Test
+    void findAll_usesSortedProjection() {
+        List<Persona> personas = List.of(
+                new Persona(1L, "Juan", "juan@example.com", 0L),
+                new Persona(2L, "Ana", "ana@example.com", 0L));
+
+        when(personaJpaRepository.findAllPersonas(Sort.by(Sort.Direction.ASC, "id"))).thenReturn(personas);
 
         List<Persona> result = adapter.findAll();
 
         assertEquals(2, result.size());
         assertEquals("Juan", result.get(0).getNombre());
         assertEquals("Ana", result.get(1).getNombre());
-        verify(personaJpaRepository).findAll(any(Sort.class));
-    }
-
-    @Test
-    void existsByEmailExcludingId_delegatesToRepository() {
-        when(personaJpaRepository.existsByEmailAndIdNot("ana@example.com", 1L))
-                .thenReturn(true);
-
-        boolean exists = adapter.existsByEmailExcludingId("ana@example.com", 1L);
-
-        assertTrue(exists);
-        verify(personaJpaRepository)
-                .existsByEmailAndIdNot("ana@example.com", 1L);
+        verify(personaJpaRepository, never()).findAll(any(Sort.class));
     }
 
     @Test
     void findById_existsAndIsMappedToDomain() {
-        PersonaEntity entity = new PersonaEntity();
-        entity.setId(5L);
-        entity.setNombre("Pame");
-        entity.setEmail("pame@example.com");
-
-        when(personaJpaRepository.findById(anyLong())).thenReturn(Optional.of(entity));
+        when(personaJpaRepository.findPersonaById(anyLong()))
+                .thenReturn(Optional.of(new Persona(5L, "Pame", "pame@example.com", 0L)));
 
         Optional<Persona> result = adapter.findById(5L);
 
@@ -146,19 +224,14 @@ class PersonaPersistenceAdapterTest {
     }
 
     @Test
-    void listAll_withPageable_returnsMappedPage() {
+    void listAll_withPageable_returnsProjectedPage() {
     // Arrange
-    PersonaEntity e1 = new PersonaEntity();
-    e1.setId(1L);
-    e1.setNombre("Juan");
-    e1.setEmail("juan@example.com");
-
     Pageable pageable = PageRequest.of(0, 10);
-    Page<PersonaEntity> entityPage =
-            new PageImpl<>(List.of(e1), pageable, 1);
+    Page<Persona> projected =
+            new PageImpl<>(List.of(new Persona(1L, "Juan", "juan@example.com", 0L)), pageable, 1);
 
-    when(personaJpaRepository.findAll(pageable))
-            .thenReturn(entityPage);
+    when(personaJpaRepository.findAllPersonas(pageable))
+            .thenReturn(projected);
 
     // Act
     Page<Persona> result = adapter.listAll(pageable);
@@ -169,6 +242,201 @@ class PersonaPersistenceAdapterTest {
     assertEquals("Juan", result.getContent().get(0).getNombre());
     assertEquals("juan@example.com", result.getContent().get(0).getEmail());
 
-    verify(personaJpaRepository).findAll(pageable);
+    verify(personaJpaRepository).findAllPersonas(pageable);
+    }
+
+    @Test
+    void findAfter_usesKeysetQuery() {
+        when(personaJpaRepository.findPersonasAfter(10L, Limit.of(5)))
+                .thenReturn(List.of(new Persona(11L, "Juan", "juan@example.com", 0L)));
+
+        List<Persona> result = adapter.findAfter(10L, 5);
+
+        assertEquals(1, result.size());
+        assertEquals(11L, result.get(0).getId());
+        verify(personaJpaRepository).findPersonasAfter(10L, Limit.of(5));
+    }
+
+    @Test
+    void findAfter_withoutCursorStartsFromBeginning() {
+        when(personaJpaRepository.findPersonasAfter(Long.MIN_VALUE, Limit.of(5)))
+                .thenReturn(List.of());
+
+        assertTrue(adapter.findAfter(null, 5).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findAll_withFields_selectsOnlyThoseColumns() {
+        ResultSet rs = mock(ResultSet.class);
+        when(jdbcTemplate.query(eq("SELECT id, nombre FROM personas ORDER BY id"), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    RowMapper<Persona> mapper = invocation.getArgument(1);
+                    when(rs.getLong("id")).thenReturn(3L);
+                    when(rs.getString("nombre")).thenReturn("Luis");
+                    return List.of(mapper.mapRow(rs, 0));
+                });
+
+        List<Persona> result = adapter.findAll(EnumSet.of(PersonaField.NOMBRE, PersonaField.ID));
+
+        assertEquals(3L, result.get(0).getId());
+        assertEquals("Luis", result.get(0).getNombre());
+        assertNull(result.get(0).getEmail());
+        assertNull(result.get(0).getVersion());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listSlice_withFields_fetchesOneExtraRowToDetectNext() {
+        Persona row = new Persona(null, "Luis", null, null);
+        when(jdbcTemplate.query(eq("SELECT nombre FROM personas ORDER BY id LIMIT ? OFFSET ?"),
+                any(RowMapper.class), eq(3), eq(4L)))
+                .thenReturn(List.of(row, row, row));
+
+        Slice<Persona> slice = adapter.listSlice(PageRequest.of(2, 2), EnumSet.of(PersonaField.NOMBRE));
+
+        assertEquals(2, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+    }
+
+    @Test
+    void streamAll_mapsEachRowToConsumer() {
+        ResultSet rs = mock(ResultSet.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            when(rs.getLong("id")).thenReturn(3L);
+            when(rs.getString("nombre")).thenReturn("Luis");
+            when(rs.getString("email")).thenReturn("luis@example.com");
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        List<Persona> received = new ArrayList<>();
+        adapter.streamAll(received::add);
+
+        assertEquals(1, received.size());
+        assertEquals(3L, received.get(0).getId());
+        assertEquals("luis@example.com", received.get(0).getEmail());
+    }
+
+    @Test
+    void saveAll_flushesInBatchesAndMapsToDomain() {
+        PersonaEntity savedEntity = new PersonaEntity();
+        savedEntity.setId(51L);
+        savedEntity.setNombre("Juan");
+        savedEntity.setEmail("juan@example.com");
+
+        when(personaJpaRepository.saveAllAndFlush(anyList())).thenReturn(List.of(savedEntity));
+
+        List<Persona> result = adapter.saveAll(List.of(new Persona(null, "Juan", "juan@example.com")));
+
+        assertEquals(1, result.size());
+        assertEquals(51L, result.get(0).getId());
+        verify(entityManager).clear();
+    }
+
+    @Test
+    void saveAll_whenDataIntegrityViolation_throwsDuplicateEmailException() {
+        when(personaJpaRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(personaJpaRepository.findExistingEmails(anyList())).thenReturn(List.of("ana@example.com"));
+
+        List<Persona> personas = List.of(
+                new Persona(null, "Juan", "juan@example.com"),
+                new Persona(null, "Ana", "ana@example.com"),
+                new Persona(null, "Eva", "eva@example.com"),
+                new Persona(null, "Eva", "eva@example.com"));
+        DuplicateEmailException ex = assertThrows(DuplicateEmailException.class, () -> adapter.saveAll(personas));
+
+        assertTrue(ex.getMessage().endsWith(": ana@example.com, eva@example.com"));
+        assertFalse(ex.getMessage().contains("juan@example.com"));
+    }
+
+    @Test
+    void saveAll_whenViolationIsNotAnEmailConflict_rethrows() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null");
+        when(personaJpaRepository.saveAllAndFlush(anyList())).thenThrow(violation);
+        when(personaJpaRepository.findExistingEmails(anyList())).thenReturn(List.of());
+
+        List<Persona> personas = List.of(new Persona(null, null, "juan@example.com"));
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> adapter.saveAll(personas)));
+    }
+
+    @Test
+    void deleteAllById_deletesOnlyExistingRowsInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, 600).boxed().toList();
+        when(personaJpaRepository.lockExistingIds(ids.subList(0, 500))).thenReturn(List.of(1L, 2L));
+        when(personaJpaRepository.lockExistingIds(ids.subList(500, 600))).thenReturn(List.of());
+
+        Set<Long> deleted = adapter.deleteAllById(ids);
+
+        assertEquals(Set.of(1L, 2L), deleted);
+        verify(personaJpaRepository).deleteRowsByIdIn(List.of(1L, 2L));
+        verify(personaJpaRepository, times(1)).deleteRowsByIdIn(anyList());
+    }
+
+    @Test
+    void approximateCount_withoutPostgresFallsBackToCount() {
+        when(personaJpaRepository.count()).thenReturn(7L);
+
+        assertEquals(7L, adapter.approximateCount());
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class));
+    }
+
+    @Test
+    void search_withoutPostgresUsesPortableSubstringQuery() {
+        String sql = searchSql(adapter);
+
+        assertTrue(sql.contains("LIKE"));
+        assertFalse(sql.contains("similarity"));
+    }
+
+    @Test
+    void search_onPostgresUsesSimilarityOnlyWhenPgTrgmIsInstalled() {
+        PersonaPersistenceAdapter postgres = new PersonaPersistenceAdapter(
+                personaJpaRepository, jdbcTemplate, entityManager, transactionManager, "jdbc:postgresql://db/personas");
+        when(jdbcTemplate.queryForObject(contains("pg_extension"), eq(Boolean.class))).thenReturn(false, true);
+
+        postgres.detectTrigramSupport();
+        assertFalse(searchSql(postgres).contains("similarity"));
+
+        postgres.detectTrigramSupport();
+        assertTrue(searchSql(postgres).contains("similarity"));
+    }
+
+    @Test
+    void dropInvalidSearchIndexes_dropsOnlyWhatTheCatalogReportsInvalid() {
+        when(jdbcTemplate.queryForList(contains("indisvalid"), eq(String.class)))
+                .thenReturn(List.of("personas_email_trgm_idx"));
+
+        adapter.dropInvalidSearchIndexes();
+
+        verify(jdbcTemplate).execute("DROP INDEX CONCURRENTLY IF EXISTS personas_email_trgm_idx");
+        verify(jdbcTemplate, times(1)).execute(anyString());
+    }
+
+    @Test
+    void findExistingEmails_returnsMatches() {
+        when(personaJpaRepository.findExistingEmails(List.of("juan@example.com", "ana@example.com")))
+                .thenReturn(List.of("ana@example.com"));
+
+        Set<String> result = adapter.findExistingEmails(List.of("juan@example.com", "ana@example.com"));
+
+        assertEquals(Set.of("ana@example.com"), result);
+    }
+
+    private static DataIntegrityViolationException violationOf(String constraint) {
+        return new DataIntegrityViolationException("violation",
+                new ConstraintViolationException("violation", new SQLException(), constraint));
+    }
+
+    @SuppressWarnings("unchecked")
+    private String searchSql(PersonaPersistenceAdapter target) {
+        clearInvocations(jdbcTemplate);
+        target.search("juan", 0, 10);
+        ArgumentCaptor<PreparedStatementCreator> statement = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(statement.capture(), any(RowMapper.class));
+        return ((SqlProvider) statement.getValue()).getSql();
     }
 }
@@ -0,0 +1,42 @@
+package com.crudpersonas.app.infrastructure.adapters.output.persistence;
+
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.model.Persona;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Boots against a database built only from db/postgresql/schema.sql, with Hibernate validating the
+ * mappings, so the shipped schema cannot drift from the entities unnoticed.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/postgresql/schema.sql"})
+@ActiveProfiles("test")
+class PersonaSchemaTest {
+
+    @Autowired
+    private PersonaPersistenceAdapter adapter;
+
+    @Test
+    void entitiesMatchTheShippedSchema() {
+        String before = adapter.tableVersion();
+
+        Persona saved = adapter.save(new Persona(null, "Juan", "juan@schema.test"));
+
+        assertNotNull(saved.getId());
+        assertEquals(0L, saved.getVersion());
+        assertNotEquals(before, adapter.tableVersion());
+        assertThrows(DuplicateEmailException.class,
+                () -> adapter.save(new Persona(null, "Juan Dos", "juan@schema.test")));
+    }
+}
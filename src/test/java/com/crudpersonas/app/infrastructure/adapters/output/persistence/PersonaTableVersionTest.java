@@ -0,0 +1,64 @@
+package com.crudpersonas.app.infrastructure.adapters.output.persistence;
+
+import com.crudpersonas.app.domain.model.Persona;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:tableversion;DB_CLOSE_DELAY=-1;MODE=PostgreSQL")
+@ActiveProfiles("test")
+class PersonaTableVersionTest {
+
+    @Autowired
+    private PersonaPersistenceAdapter adapter;
+
+    @Autowired
+    private PersonaJpaRepository personaJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void writesThroughOneInstanceChangeTheVersionSeenByAnother() {
+        PersonaPersistenceAdapter otherInstance =
+                new PersonaPersistenceAdapter(personaJpaRepository, jdbcTemplate, entityManager, transactionManager, "");
+        String initial = otherInstance.tableVersion();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            adapter.save(new Persona(null, "Juan", "juan@version.test"));
+            adapter.save(new Persona(null, "Ana", "ana@version.test"));
+        });
+
+        // One bump per transaction, however many rows it wrote
+        assertEquals(Long.parseLong(initial) + 1, Long.parseLong(otherInstance.tableVersion()));
+        assertEquals(adapter.tableVersion(), otherInstance.tableVersion());
+    }
+
+    @Test
+    void rolledBackWritesKeepTheVersion() {
+        String initial = adapter.tableVersion();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            adapter.save(new Persona(null, "Luis", "luis@version.test"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(initial, adapter.tableVersion());
+    }
+}
@@ -0,0 +1,103 @@
+package com.crudpersonas.app.infrastructure.adapters.output.persistence.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource first = mock(DataSource.class);
+    private final DataSource second = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstConnection = mock(Connection.class);
+    private final Connection secondConnection = mock(Connection.class);
+
+    private ReplicaDataSource replicaDataSource;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        replicaDataSource.close();
+    }
+
+    @Test
+    void getConnection_roundRobinsOverReplicas() throws SQLException {
+        when(first.getConnection()).thenReturn(firstConnection);
+        when(second.getConnection()).thenReturn(secondConnection);
+        replicaDataSource = new ReplicaDataSource(primary, List.of(first, second), Duration.ofHours(1));
+
+        assertSame(firstConnection, replicaDataSource.getConnection());
+        assertSame(secondConnection, replicaDataSource.getConnection());
+        assertSame(firstConnection, replicaDataSource.getConnection());
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_skipsFailedReplicaAndFallsBackToPrimary() throws SQLException {
+        when(first.getConnection()).thenThrow(new SQLException("down"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        replicaDataSource = new ReplicaDataSource(primary, List.of(first), Duration.ofHours(1));
+
+        assertSame(primaryConnection, replicaDataSource.getConnection());
+        assertEquals(0, replicaDataSource.healthyReplicas());
+        assertSame(primaryConnection, replicaDataSource.getConnection());
+        verify(first).getConnection();
+    }
+
+    @Test
+    void checkHealth_bringsRecoveredReplicaBack() throws SQLException {
+        when(first.getConnection()).thenThrow(new SQLException("down")).thenReturn(firstConnection);
+        when(firstConnection.isValid(1)).thenReturn(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        replicaDataSource = new ReplicaDataSource(primary, List.of(first), Duration.ofSeconds(1));
+
+        assertSame(primaryConnection, replicaDataSource.getConnection());
+        replicaDataSource.checkHealth();
+
+        assertEquals(1, replicaDataSource.healthyReplicas());
+        assertSame(firstConnection, replicaDataSource.getConnection());
+    }
+
+    @Test
+    void getConnectionWithCredentials_delegatesToReplicaWithoutMarkingUnsupportedPoolsDown() throws SQLException {
+        when(first.getConnection("reader", "secret")).thenReturn(firstConnection);
+        when(second.getConnection("reader", "secret")).thenThrow(new SQLFeatureNotSupportedException("no"));
+        replicaDataSource = new ReplicaDataSource(primary, List.of(first, second), Duration.ofHours(1));
+
+        assertSame(firstConnection, replicaDataSource.getConnection("reader", "secret"));
+        assertThrows(SQLFeatureNotSupportedException.class, () -> replicaDataSource.getConnection("reader", "secret"));
+        assertEquals(2, replicaDataSource.healthyReplicas());
+    }
+
+    @Test
+    void onPrimary_routesConnectionsToPrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(first.getConnection()).thenReturn(firstConnection);
+        replicaDataSource = new ReplicaDataSource(primary, List.of(first), Duration.ofHours(1));
+
+        assertSame(primaryConnection, ReplicaDataSource.onPrimary(this::connection));
+        assertSame(firstConnection, replicaDataSource.getConnection());
+    }
+
+    private Connection connection() {
+        try {
+            return replicaDataSource.getConnection();
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
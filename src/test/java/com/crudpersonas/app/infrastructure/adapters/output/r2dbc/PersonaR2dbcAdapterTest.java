@@ -0,0 +1,74 @@
+package com.crudpersonas.app.infrastructure.adapters.output.r2dbc;
+
+import com.crudpersonas.app.domain.exception.DuplicateEmailException;
+import com.crudpersonas.app.domain.model.Persona;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+class PersonaR2dbcAdapterTest {
+
+    private DatabaseClient databaseClient;
+    private PersonaR2dbcAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(
+                "r2dbc:h2:mem:///r2dbc-" + System.nanoTime() + "?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL"));
+        databaseClient.sql("CREATE SEQUENCE personas_seq START WITH 1 INCREMENT BY 50").then().block();
+        databaseClient.sql("CREATE TABLE personas (id BIGINT PRIMARY KEY, nombre VARCHAR(255) NOT NULL, "
+                + "email VARCHAR(255) NOT NULL UNIQUE, version BIGINT DEFAULT 0 NOT NULL)").then().block();
+        adapter = new PersonaR2dbcAdapter(databaseClient);
+    }
+
+    @Test
+    void insert_thenFindById() {
+        Persona created = adapter.insert(new Persona(null, "Juan", "juan@example.com")).block();
+
+        StepVerifier.create(adapter.findById(created.getId()))
+                .expectNextMatches(persona -> "juan@example.com".equals(persona.getEmail()))
+                .verifyComplete();
+    }
+
+    @Test
+    void insert_duplicateEmailMapsToDomainException() {
+        adapter.insert(new Persona(null, "Juan", "juan@example.com")).block();
+
+        StepVerifier.create(adapter.insert(new Persona(null, "Otro", "juan@example.com")))
+                .expectError(DuplicateEmailException.class)
+                .verify();
+    }
+
+    @Test
+    void findAfter_pagesByKey() {
+        Persona first = adapter.insert(new Persona(null, "Juan", "juan@example.com")).block();
+        adapter.insert(new Persona(null, "Ana", "ana@example.com")).block();
+        adapter.insert(new Persona(null, "Luis", "luis@example.com")).block();
+
+        StepVerifier.create(adapter.findAfter(first.getId(), 1))
+                .expectNextMatches(persona -> "Ana".equals(persona.getNombre()))
+                .verifyComplete();
+    }
+
+    @Test
+    void updateAndDelete_reportMatchedRows() {
+        Persona created = adapter.insert(new Persona(null, "Juan", "juan@example.com")).block();
+
+        StepVerifier.create(adapter.update(new Persona(created.getId(), "Juan Carlos", "juan@example.com")))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(adapter.update(new Persona(created.getId(), "Juan", "juan@example.com", 0L)))
+                .verifyComplete();
+        StepVerifier.create(adapter.update(new Persona(created.getId(), "Juan", "juan@example.com", 1L)))
+                .expectNext(2L)
+                .verifyComplete();
+        StepVerifier.create(adapter.deleteById(created.getId()))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(adapter.deleteById(created.getId()))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
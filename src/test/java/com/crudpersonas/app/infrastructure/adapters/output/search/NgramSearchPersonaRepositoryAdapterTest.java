@@ -0,0 +1,127 @@
+package com.crudpersonas.app.infrastructure.adapters.output.search;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.model.Persona;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NgramSearchPersonaRepositoryAdapterTest {
+
+    private PersonaRepositoryPort delegate;
+    private NgramSearchPersonaRepositoryAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        delegate = mock(PersonaRepositoryPort.class);
+        doAnswer(invocation -> {
+            Consumer<Persona> consumer = invocation.getArgument(0);
+            consumer.accept(new Persona(1L, "Juan Perez", "jperez@example.com"));
+            consumer.accept(new Persona(2L, "Ana Juarez", "ana@example.com"));
+            consumer.accept(new Persona(3L, "Maria Lopez", "maria@example.com"));
+            return null;
+        }).when(delegate).streamAll(any(Consumer.class));
+        adapter = new NgramSearchPersonaRepositoryAdapter(delegate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void beforeRebuild_searchGoesToTheDelegate() {
+        when(delegate.search("maria", 0, 10)).thenReturn(List.of(new Persona(3L, "Maria Lopez", "maria@example.com")));
+
+        assertFalse(adapter.isReady());
+        assertEquals(List.of(3L), ids(adapter.search("maria", 0, 10)));
+        verify(delegate, never()).streamAll(any(Consumer.class));
+    }
+
+    @Test
+    void search_ranksPrefixBeforeSubstringIgnoringCase() {
+        adapter.rebuild();
+
+        assertTrue(adapter.isReady());
+        assertEquals(List.of(1L, 2L), ids(adapter.search("JUA", 0, 10)));
+    }
+
+    @Test
+    void search_shortTermsOnlyMatchPrefixes() {
+        adapter.rebuild();
+
+        assertEquals(List.of(2L), ids(adapter.search("an", 0, 10)));
+        assertEquals(List.of(1L), ids(adapter.search("ju", 0, 10)));
+    }
+
+    @Test
+    void search_substringAndFuzzyMatches() {
+        adapter.rebuild();
+
+        assertEquals(List.of(2L, 1L), ids(adapter.search("juarez", 0, 10)));
+        assertEquals(List.of(3L), ids(adapter.search("lopes", 0, 10)));
+        assertEquals(List.of(1L, 2L), ids(adapter.search("@example", 0, 2)));
+        assertEquals(List.of(3L), ids(adapter.search("@example", 2, 2)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writes_keepIndexCurrent() {
+        adapter.rebuild();
+        Persona nueva = new Persona(4L, "Lucia Juarez", "lucia@example.com");
+        when(delegate.save(nueva)).thenReturn(nueva);
+        when(delegate.update(any())).thenReturn(true);
+        when(delegate.findById(3L)).thenReturn(Optional.of(new Persona(3L, "Maria Juarez", "maria@example.com", 1L)));
+        when(delegate.deleteById(2L)).thenReturn(true);
+
+        adapter.save(nueva);
+        adapter.update(new Persona(3L, "Maria Juarez", "maria@example.com"));
+        adapter.deleteById(2L);
+
+        assertEquals(List.of(3L, 4L, 1L), ids(adapter.search("juarez", 0, 10)));
+        verify(delegate, times(1)).streamAll(any(Consumer.class));
+    }
+
+    @Test
+    void writes_reachTheIndexOnlyWhenTheirTransactionCommits() {
+        adapter.rebuild();
+        Persona committed = new Persona(4L, "Lucia Juarez", "lucia@example.com");
+        Persona rolledBack = new Persona(5L, "Rosa Juarez", "rosa@example.com");
+        when(delegate.save(committed)).thenReturn(committed);
+        when(delegate.save(rolledBack)).thenReturn(rolledBack);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            adapter.save(committed);
+            assertEquals(List.of(2L, 1L), ids(adapter.search("juarez", 0, 10)));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            adapter.save(rolledBack);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(2L, 4L, 1L), ids(adapter.search("juarez", 0, 10)));
+    }
+
+    private static List<Long> ids(List<Persona> personas) {
+        return personas.stream().map(Persona::getId).toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.crudpersonas.app.infrastructure.config;
+
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.infrastructure.adapters.output.persistence.PersonaPersistenceAdapter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "personas.l2-cache.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:l2cache;DB_CLOSE_DELAY=-1;MODE=PostgreSQL"})
+@ActiveProfiles("test")
+class HibernateCacheConfigTest {
+
+    @Autowired
+    private PersonaPersistenceAdapter adapter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (adapter.findAll().isEmpty()) {
+            adapter.saveAll(List.of(
+                    new Persona(null, "Juan", "juan@l2.test"),
+                    new Persona(null, "Ana", "ana@l2.test")));
+        }
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedPageQueriesAreServedFromQueryCache() {
+        adapter.listAll(PageRequest.of(0, 10));
+        adapter.listAll(PageRequest.of(0, 10));
+
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+    }
+
+    @Test
+    void writesInvalidateCachedQueries() {
+        Persona juan = adapter.findAll().get(0);
+        adapter.findById(juan.getId());
+
+        transactionTemplate.executeWithoutResult(
+                status -> adapter.update(new Persona(juan.getId(), "Juan Carlos", juan.getEmail())));
+
+        assertEquals("Juan Carlos", adapter.findById(juan.getId()).orElseThrow().getNombre());
+    }
+}
@@ -0,0 +1,109 @@
+package com.crudpersonas.app.infrastructure.config;
+
+import com.crudpersonas.app.application.ports.output.PersonaRepositoryPort;
+import com.crudpersonas.app.domain.model.Persona;
+import com.crudpersonas.app.infrastructure.adapters.output.persistence.PersonaPersistenceAdapter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "personas.read-replicas.urls=" + ReadReplicaConfigTest.REPLICA_URL})
+@ActiveProfiles("test")
+class ReadReplicaConfigTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+
+    @Autowired
+    private PersonaPersistenceAdapter adapter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private PersonaRepositoryPort personaRepositoryPort;
+
+    @Test
+    void readOnlyTransactionsReadFromReplicaAndWritesGoToPrimary() {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("CREATE TABLE IF NOT EXISTS personas (id BIGINT PRIMARY KEY, nombre VARCHAR(255), "
+                + "email VARCHAR(255), version BIGINT NOT NULL DEFAULT 0)");
+        replica.update("MERGE INTO personas (id, nombre, email) KEY (id) VALUES (1, 'Replica', 'replica@example.com')");
+
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readWrite.executeWithoutResult(status -> adapter.save(new Persona(null, "Primaria", "primaria@example.com")));
+
+        List<Persona> fromReplica = readOnly.execute(status -> adapter.findAll());
+        List<Persona> fromPrimary = readWrite.execute(status -> adapter.findAll());
+
+        assertEquals(List.of("Replica"), fromReplica.stream().map(Persona::getNombre).toList());
+        assertEquals(List.of("Primaria"), fromPrimary.stream().map(Persona::getNombre).toList());
+    }
+
+    @Test
+    void cachedAndVersionedReadsStayOnPrimaryInsideReadOnlyTransactions() {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("CREATE TABLE IF NOT EXISTS personas (id BIGINT PRIMARY KEY, nombre VARCHAR(255), "
+                + "email VARCHAR(255), version BIGINT NOT NULL DEFAULT 0)");
+        replica.update("MERGE INTO personas (id, nombre, email) KEY (id) VALUES (1, 'Replica', 'replica@example.com')");
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Persona primaria = readWrite.execute(status ->
+                personaRepositoryPort.save(new Persona(null, "Principal", "principal@example.com")));
+
+        List<Persona> listed;
+        Persona byId;
+        List<Persona> streamed;
+        try {
+            listed = readOnly.execute(status -> personaRepositoryPort.findAll());
+            byId = readOnly.execute(status -> personaRepositoryPort.findById(primaria.getId()).orElseThrow());
+            streamed = readOnly.execute(status -> personaRepositoryPort.findAfter(null, 10));
+        } finally {
+            readWrite.executeWithoutResult(status -> personaRepositoryPort.deleteById(primaria.getId()));
+        }
+
+        assertTrue(listed.stream().map(Persona::getNombre).toList().contains("Principal"));
+        assertEquals("Principal", byId.getNombre());
+        assertEquals(List.of("Replica"), streamed.stream().map(Persona::getNombre).toList());
+    }
+
+    @Test
+    void replicaPoolsTakeThePrimaryHikariSettings() {
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of(
+                "spring.datasource.hikari.maximum-pool-size", "3",
+                "spring.datasource.hikari.connection-timeout", "30000")));
+
+        try (HikariDataSource replica = ReadReplicaConfig.replicaPool(
+                dataSourceProperties, binder, 0, REPLICA_URL, Duration.ofSeconds(2))) {
+            assertEquals(3, replica.getMaximumPoolSize());
+            assertEquals(2000, replica.getConnectionTimeout());
+            assertEquals(REPLICA_URL, replica.getJdbcUrl());
+            assertEquals("replica-0", replica.getPoolName());
+            assertTrue(replica.isReadOnly());
+        }
+    }
+}